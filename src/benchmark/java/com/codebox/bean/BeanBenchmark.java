@@ -0,0 +1,111 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.enums.LoadData;
+import com.codebox.enums.LoadType;
+import com.codebox.instance.ClassInstance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The Class BeanBenchmark measures value building, getter/setter testing and builder creation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanBenchmark {
+
+    /** The bean class name. */
+    @Param({ "com.codebox.bean.SampleBean", "com.codebox.bean.SampleDepthBean", "com.codebox.bean.SampleValueObject",
+            "com.codebox.bean.WideBean", "com.codebox.bean.DeepBean" })
+    public String beanClassName;
+
+    /** The clazz. */
+    private Class<Object> clazz;
+
+    /** The worker. */
+    private JavaBeanTesterWorker<Object, Object> worker;
+
+    /** The instance. */
+    private Object instance;
+
+    /** The value builder. */
+    private ValueBuilder valueBuilder;
+
+    /**
+     * Setup.
+     *
+     * @throws ClassNotFoundException
+     *             the class not found exception
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws ClassNotFoundException {
+        this.clazz = (Class<Object>) Class.forName(this.beanClassName);
+        this.worker = new JavaBeanTesterWorker<>(this.clazz);
+        this.worker.setLoadData(LoadData.ON);
+        this.instance = new ClassInstance<>().newInstance(this.clazz);
+        this.valueBuilder = new ValueBuilder();
+        this.valueBuilder.setLoadData(LoadData.ON);
+    }
+
+    /**
+     * Build a loaded value of the bean.
+     *
+     * @return the object
+     */
+    @Benchmark
+    public Object buildValue() {
+        return this.valueBuilder.buildValue(this.clazz, LoadType.STANDARD_DATA);
+    }
+
+    /**
+     * Getter setter tests.
+     *
+     * @return the instance
+     */
+    @Benchmark
+    public Object getterSetterTests() {
+        this.worker.getterSetterTests(this.instance);
+        return this.instance;
+    }
+
+    /**
+     * Builder, with the extension already generated.
+     *
+     * @return the java bean tester builder
+     */
+    @Benchmark
+    public Object builder() {
+        return JavaBeanTester.builder(this.clazz);
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.io.Serializable;
+
+import lombok.Data;
+
+/**
+ * The Class DeepBean, a synthetic bean nesting five levels of beans.
+ */
+@Data
+public class DeepBean implements Serializable {
+
+    /** The Constant serialVersionUID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The name. */
+    private String name;
+
+    /** The child. */
+    private Level1 child;
+
+    /**
+     * The Class Level1.
+     */
+    @Data
+    public static class Level1 implements Serializable {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The name. */
+        private String name;
+
+        /** The child. */
+        private Level2 child;
+    }
+
+    /**
+     * The Class Level2.
+     */
+    @Data
+    public static class Level2 implements Serializable {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The name. */
+        private String name;
+
+        /** The child. */
+        private Level3 child;
+    }
+
+    /**
+     * The Class Level3.
+     */
+    @Data
+    public static class Level3 implements Serializable {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The name. */
+        private String name;
+
+        /** The child. */
+        private Level4 child;
+    }
+
+    /**
+     * The Class Level4.
+     */
+    @Data
+    public static class Level4 implements Serializable {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The name. */
+        private String name;
+
+        /** The child. */
+        private Level5 child;
+    }
+
+    /**
+     * The Class Level5.
+     */
+    @Data
+    public static class Level5 implements Serializable {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The name. */
+        private String name;
+
+        /** The value. */
+        private long value;
+    }
+
+}
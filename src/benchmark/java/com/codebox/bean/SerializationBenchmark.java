@@ -0,0 +1,135 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.enums.LoadData;
+import com.codebox.instance.ClassInstance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The Class SerializationBenchmark measures the serialization round trip of loaded beans, run with the gc profiler to
+ * see allocation per check. The unpooled benchmarks are the baseline, copying through a fresh byte array stream as the
+ * checks did before {@link SerializationBuffer}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    /** The bean class name. */
+    @Param({ "com.codebox.bean.SerializableBean", "com.codebox.bean.WideBean", "com.codebox.bean.DeepBean" })
+    public String beanClassName;
+
+    /** The worker. */
+    private JavaBeanTesterWorker<Object, Object> worker;
+
+    /** The instance. */
+    private Object instance;
+
+    /**
+     * Setup.
+     *
+     * @throws ClassNotFoundException
+     *             the class not found exception
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws ClassNotFoundException {
+        final Class<Object> clazz = (Class<Object>) Class.forName(this.beanClassName);
+        this.worker = new JavaBeanTesterWorker<>(clazz);
+        this.instance = new ClassInstance<>().newInstance(clazz);
+        JavaBeanTesterWorker.load(clazz, this.instance, LoadData.ON);
+    }
+
+    /**
+     * Serialization round trip.
+     *
+     * @return the object read
+     */
+    @Benchmark
+    public Object canSerialize() {
+        return this.worker.canSerialize(this.instance);
+    }
+
+    /**
+     * Serialization round trip through a fresh byte array stream and a copy of its bytes.
+     *
+     * @return the object read
+     *
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     * @throws ClassNotFoundException
+     *             the class not found exception
+     */
+    @Benchmark
+    public Object canSerializeUnpooled() throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(baos)) {
+            output.writeObject(this.instance);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            return input.readObject();
+        }
+    }
+
+    /**
+     * Serialized size.
+     *
+     * @return the size
+     */
+    @Benchmark
+    public int serializedSize() {
+        return JavaBeanTesterWorker.serializedSize(this.instance);
+    }
+
+    /**
+     * Serialized size through a fresh byte array stream.
+     *
+     * @return the size
+     *
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    @Benchmark
+    public int serializedSizeUnpooled() throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(baos)) {
+            output.writeObject(this.instance);
+        }
+        return baos.toByteArray().length;
+    }
+
+}
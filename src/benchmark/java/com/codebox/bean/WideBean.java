@@ -0,0 +1,225 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * The Class WideBean, a synthetic bean with 64 properties.
+ */
+@Data
+public class WideBean implements Serializable {
+
+    /** The Constant serialVersionUID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The string 0. */
+    private String string0;
+
+    /** The intValue 0. */
+    private int intValue0;
+
+    /** The longValue 0. */
+    private Long longValue0;
+
+    /** The booleanValue 0. */
+    private boolean booleanValue0;
+
+    /** The doubleValue 0. */
+    private Double doubleValue0;
+
+    /** The bigDecimal 0. */
+    private BigDecimal bigDecimal0;
+
+    /** The list 0. */
+    private List<String> list0;
+
+    /** The localDate 0. */
+    private LocalDate localDate0;
+
+    /** The string 1. */
+    private String string1;
+
+    /** The intValue 1. */
+    private int intValue1;
+
+    /** The longValue 1. */
+    private Long longValue1;
+
+    /** The booleanValue 1. */
+    private boolean booleanValue1;
+
+    /** The doubleValue 1. */
+    private Double doubleValue1;
+
+    /** The bigDecimal 1. */
+    private BigDecimal bigDecimal1;
+
+    /** The list 1. */
+    private List<String> list1;
+
+    /** The localDate 1. */
+    private LocalDate localDate1;
+
+    /** The string 2. */
+    private String string2;
+
+    /** The intValue 2. */
+    private int intValue2;
+
+    /** The longValue 2. */
+    private Long longValue2;
+
+    /** The booleanValue 2. */
+    private boolean booleanValue2;
+
+    /** The doubleValue 2. */
+    private Double doubleValue2;
+
+    /** The bigDecimal 2. */
+    private BigDecimal bigDecimal2;
+
+    /** The list 2. */
+    private List<String> list2;
+
+    /** The localDate 2. */
+    private LocalDate localDate2;
+
+    /** The string 3. */
+    private String string3;
+
+    /** The intValue 3. */
+    private int intValue3;
+
+    /** The longValue 3. */
+    private Long longValue3;
+
+    /** The booleanValue 3. */
+    private boolean booleanValue3;
+
+    /** The doubleValue 3. */
+    private Double doubleValue3;
+
+    /** The bigDecimal 3. */
+    private BigDecimal bigDecimal3;
+
+    /** The list 3. */
+    private List<String> list3;
+
+    /** The localDate 3. */
+    private LocalDate localDate3;
+
+    /** The string 4. */
+    private String string4;
+
+    /** The intValue 4. */
+    private int intValue4;
+
+    /** The longValue 4. */
+    private Long longValue4;
+
+    /** The booleanValue 4. */
+    private boolean booleanValue4;
+
+    /** The doubleValue 4. */
+    private Double doubleValue4;
+
+    /** The bigDecimal 4. */
+    private BigDecimal bigDecimal4;
+
+    /** The list 4. */
+    private List<String> list4;
+
+    /** The localDate 4. */
+    private LocalDate localDate4;
+
+    /** The string 5. */
+    private String string5;
+
+    /** The intValue 5. */
+    private int intValue5;
+
+    /** The longValue 5. */
+    private Long longValue5;
+
+    /** The booleanValue 5. */
+    private boolean booleanValue5;
+
+    /** The doubleValue 5. */
+    private Double doubleValue5;
+
+    /** The bigDecimal 5. */
+    private BigDecimal bigDecimal5;
+
+    /** The list 5. */
+    private List<String> list5;
+
+    /** The localDate 5. */
+    private LocalDate localDate5;
+
+    /** The string 6. */
+    private String string6;
+
+    /** The intValue 6. */
+    private int intValue6;
+
+    /** The longValue 6. */
+    private Long longValue6;
+
+    /** The booleanValue 6. */
+    private boolean booleanValue6;
+
+    /** The doubleValue 6. */
+    private Double doubleValue6;
+
+    /** The bigDecimal 6. */
+    private BigDecimal bigDecimal6;
+
+    /** The list 6. */
+    private List<String> list6;
+
+    /** The localDate 6. */
+    private LocalDate localDate6;
+
+    /** The string 7. */
+    private String string7;
+
+    /** The intValue 7. */
+    private int intValue7;
+
+    /** The longValue 7. */
+    private Long longValue7;
+
+    /** The booleanValue 7. */
+    private boolean booleanValue7;
+
+    /** The doubleValue 7. */
+    private Double doubleValue7;
+
+    /** The bigDecimal 7. */
+    private BigDecimal bigDecimal7;
+
+    /** The list 7. */
+    private List<String> list7;
+
+    /** The localDate 7. */
+    private LocalDate localDate7;
+
+}
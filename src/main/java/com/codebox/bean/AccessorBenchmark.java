@@ -0,0 +1,185 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.bean.Measurement.Cost;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Accessor Benchmark measures the time and allocation of each getter and setter call through {@link Measurement}, and
+ * holds the thresholds they must stay within. Getters of primitives are measured net of the box created by the
+ * accessor.
+ */
+final class AccessorBenchmark {
+
+    /** The Constant WARMUP_OPS. */
+    static final int WARMUP_OPS = 20_000;
+
+    /** The Constant OPS_PER_SAMPLE. */
+    static final int OPS_PER_SAMPLE = 1_000;
+
+    /** The Constant SAMPLES. */
+    static final int SAMPLES = 15;
+
+    /** The Constant GETTER_TYPE. */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /** The max nanos per op, not limited when zero or less. */
+    private final long maxNanos;
+
+    /** The max bytes per op, not limited when zero or less. */
+    private final long maxBytes;
+
+    /**
+     * Instantiates a new accessor benchmark.
+     *
+     * @param maxNanos
+     *            the max nanos per op
+     * @param maxBytes
+     *            the max bytes per op
+     */
+    AccessorBenchmark(final long maxNanos, final long maxBytes) {
+        this.maxNanos = maxNanos;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Checks if the cost is over the thresholds.
+     *
+     * @param cost
+     *            the cost
+     *
+     * @return true, if over
+     */
+    boolean isOver(final Cost cost) {
+        return this.maxNanos > 0 && cost.getNanosPerOp() > this.maxNanos
+                || this.maxBytes > 0 && cost.getBytesPerOp() > this.maxBytes;
+    }
+
+    /**
+     * Gets the max nanos.
+     *
+     * @return the max nanos
+     */
+    long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    /**
+     * Gets the max bytes.
+     *
+     * @return the max bytes
+     */
+    long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * Measure the getter.
+     *
+     * @param accessor
+     *            the accessor
+     * @param bean
+     *            the bean
+     * @param type
+     *            the type of the property
+     * @param value
+     *            the value held by the property
+     *
+     * @return the cost
+     *
+     * @throws ReflectiveOperationException
+     *             the reflective operation exception
+     */
+    static Cost getter(final PropertyAccessor accessor, final Object bean, final Class<?> type, final Object value)
+            throws ReflectiveOperationException {
+        final Cost cost = AccessorBenchmark.measure(ops -> {
+            Object last = null;
+            for (long i = 0; i < ops; i++) {
+                last = accessor.get(bean);
+            }
+            Measurement.consume(last);
+        });
+        if (!type.isPrimitive() || value == null) {
+            return cost;
+        }
+
+        // The accessor boxes primitives, measure the same box on a getter doing nothing else
+        final MethodHandle baseline = MethodHandles.dropArguments(MethodHandles.constant(type, value), 0, Object.class)
+                .asType(AccessorBenchmark.GETTER_TYPE);
+        return cost.minus(AccessorBenchmark.measure(ops -> {
+            Object last = null;
+            for (long i = 0; i < ops; i++) {
+                try {
+                    last = (Object) baseline.invokeExact(bean);
+                } catch (final Throwable e) {
+                    throw new InvocationTargetException(e);
+                }
+            }
+            Measurement.consume(last);
+        }));
+    }
+
+    /**
+     * Measure the setter.
+     *
+     * @param accessor
+     *            the accessor
+     * @param bean
+     *            the bean
+     * @param value
+     *            the value to set
+     *
+     * @return the cost
+     *
+     * @throws ReflectiveOperationException
+     *             the reflective operation exception
+     */
+    static Cost setter(final PropertyAccessor accessor, final Object bean, final Object value)
+            throws ReflectiveOperationException {
+        return AccessorBenchmark.measure(ops -> {
+            for (long i = 0; i < ops; i++) {
+                accessor.set(bean, value);
+            }
+        });
+    }
+
+    /**
+     * Measure the accessor calls.
+     *
+     * @param operation
+     *            the operation
+     *
+     * @return the cost
+     *
+     * @throws ReflectiveOperationException
+     *             the reflective operation exception
+     */
+    private static Cost measure(final Measurement.Operation<ReflectiveOperationException> operation)
+            throws ReflectiveOperationException {
+        return Measurement.measure(operation, AccessorBenchmark.WARMUP_OPS, AccessorBenchmark.OPS_PER_SAMPLE,
+                AccessorBenchmark.SAMPLES);
+    }
+
+    @Override
+    public String toString() {
+        return this.maxNanos + " ns/op/" + this.maxBytes + " B/op";
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.bean.BeanMetadata.BeanProperty;
+import com.codebox.enums.ExtensionMode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Bean Fingerprint is a hash of everything testing a bean depends on: the class bytes of the bean, of its super classes
+ * and, transitively, of its property types (nested beans are built and tested when loading data), together with the
+ * builder configuration. An unchanged fingerprint means a previous passing result still holds.
+ */
+final class BeanFingerprint {
+
+    /** The Constant ALGORITHM. */
+    private static final String ALGORITHM = "SHA-256";
+
+    /** The Constant CLASS_HASHES, the hash of the class bytes or the class name when there are no class bytes. */
+    private static final ClassValue<String> CLASS_HASHES = new ClassValue<>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            final String resource = type.getName().replace('.', '/') + ".class";
+            try (InputStream input = type.getClassLoader().getResourceAsStream(resource)) {
+                if (input == null) {
+                    // Generated classes have no class file
+                    return type.getName();
+                }
+                return BeanFingerprint.hex(BeanFingerprint.digest().digest(input.readAllBytes()));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    /**
+     * Prevent Instantiation of bean fingerprint.
+     */
+    private BeanFingerprint() {
+        // Prevent Instantiation
+    }
+
+    /**
+     * Fingerprint of the configured bean test.
+     *
+     * @param worker
+     *            the worker holding the class and configuration
+     * @param extensionMode
+     *            the extension mode
+     *
+     * @return the fingerprint
+     */
+    static String of(final JavaBeanTesterWorker<?, ?> worker, final ExtensionMode extensionMode) {
+        final MessageDigest digest = BeanFingerprint.digest();
+        for (final Entry<String, String> entry : BeanFingerprint.closure(worker.getClazz()).entrySet()) {
+            digest.update((entry.getKey() + '=' + entry.getValue() + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+
+        final String configuration = String.join(",", String.valueOf(worker.getCheckClear()),
+                String.valueOf(worker.getCheckConstructor()), String.valueOf(worker.getCheckEquals()),
+                String.valueOf(worker.getCheckSensitivity()), String.valueOf(worker.getCheckSerializable()),
+                String.valueOf(worker.getLoadData()), String.valueOf(worker.getSkipStrictSerializable()),
+                String.valueOf(worker.getSerializationBudget()), String.valueOf(worker.getAccessorBenchmark()),
+                String.valueOf(worker.getHashDistribution()), String.valueOf(worker.getObjectMethodsProfile()),
+                String.valueOf(worker.getClock()), String.valueOf(extensionMode),
+                String.valueOf(new TreeSet<>(worker.getSkipThese())));
+        digest.update(configuration.getBytes(StandardCharsets.UTF_8));
+        return BeanFingerprint.hex(digest.digest());
+    }
+
+    /**
+     * Hashes of the class, its super classes and, transitively, its property types. Classes of the JDK are left out.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the class hashes by class name, sorted
+     */
+    private static Map<String, String> closure(final Class<?> clazz) {
+        final Map<String, String> hashes = new TreeMap<>();
+        final Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(clazz);
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+            while (type.isArray()) {
+                type = type.getComponentType();
+            }
+            if (BeanFingerprint.isJdk(type) || hashes.containsKey(type.getName())) {
+                continue;
+            }
+            hashes.put(type.getName(), BeanFingerprint.CLASS_HASHES.get(type));
+
+            if (type.getSuperclass() != null) {
+                pending.add(type.getSuperclass());
+            }
+            for (final BeanProperty prop : BeanMetadata.of(type).getProperties()) {
+                if (prop.getGetter() != null) {
+                    pending.add(prop.getGetter().getReturnType());
+                }
+                if (prop.getSetter() != null) {
+                    pending.add(prop.getSetter().getParameterTypes()[0]);
+                }
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Checks if the class is a primitive or belongs to the JDK.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return true, if is jdk
+     */
+    private static boolean isJdk(final Class<?> clazz) {
+        final ClassLoader classLoader = clazz.getClassLoader();
+        return clazz.isPrimitive() || classLoader == null || classLoader == ClassLoader.getPlatformClassLoader();
+    }
+
+    /**
+     * New message digest.
+     *
+     * @return the message digest
+     */
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance(BeanFingerprint.ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Hex.
+     *
+     * @param bytes
+     *            the bytes
+     *
+     * @return the string
+     */
+    private static String hex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (final byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bean Metadata holds the introspected properties of a class. Introspection is performed once per class and cached for
+ * the life of the class, so all worker phases share the same resolved getter/setter pairs.
+ */
+final class BeanMetadata {
+
+    /** The Constant CACHE. */
+    private static final ClassValue<BeanMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected BeanMetadata computeValue(final Class<?> type) {
+            return new BeanMetadata(type);
+        }
+    };
+
+    /** The properties. */
+    private final List<BeanProperty> properties;
+
+    /** The introspection failure, null when introspection succeeded. */
+    private final IntrospectionException introspectionFailure;
+
+    /**
+     * Instantiates a new bean metadata.
+     *
+     * @param clazz
+     *            the clazz
+     */
+    private BeanMetadata(final Class<?> clazz) {
+        List<BeanProperty> resolved = Collections.emptyList();
+        IntrospectionException failure = null;
+        try {
+            final PropertyDescriptor[] props = Introspector.getBeanInfo(clazz).getPropertyDescriptors();
+            resolved = new ArrayList<>(props.length);
+            for (final PropertyDescriptor prop : props) {
+                resolved.add(new BeanProperty(prop.getName(), BeanMetadata.resolveGetter(clazz, prop),
+                        prop.getWriteMethod()));
+            }
+            resolved = Collections.unmodifiableList(resolved);
+        } catch (final IntrospectionException e) {
+            failure = e;
+        } finally {
+            // The introspector cache holds its classes strongly, which would keep hidden extensions from unloading
+            Introspector.flushFromCaches(clazz);
+        }
+        this.properties = resolved;
+        this.introspectionFailure = failure;
+    }
+
+    /**
+     * Gets the cached metadata for the class.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the bean metadata
+     */
+    static BeanMetadata of(final Class<?> clazz) {
+        return BeanMetadata.CACHE.get(clazz);
+    }
+
+    /**
+     * Gets all properties of the class, including those without a getter/setter pair.
+     *
+     * @return the properties
+     */
+    List<BeanProperty> getProperties() {
+        return this.properties;
+    }
+
+    /**
+     * Gets the introspection failure.
+     *
+     * @return the introspection failure or null if introspection succeeded
+     */
+    IntrospectionException getIntrospectionFailure() {
+        return this.introspectionFailure;
+    }
+
+    /**
+     * Resolve getter.
+     *
+     * @param clazz
+     *            the clazz
+     * @param prop
+     *            the prop
+     *
+     * @return the getter, or null if none available
+     */
+    private static Method resolveGetter(final Class<?> clazz, final PropertyDescriptor prop) {
+        final Method getter = prop.getReadMethod();
+        final Method setter = prop.getWriteMethod();
+
+        // Java Metro Bug Patch (Boolean Wrapper usage of 'is' possible
+        if (getter == null && setter != null) {
+            final String isBooleanWrapper = "is" + setter.getName().substring(3);
+            try {
+                return clazz.getMethod(isBooleanWrapper);
+            } catch (NoSuchMethodException | SecurityException e) {
+                // Do nothing
+            }
+        }
+        return getter;
+    }
+
+    /**
+     * The Class BeanProperty.
+     */
+    static final class BeanProperty {
+
+        /** The name. */
+        private final String name;
+
+        /** The getter. */
+        private final Method getter;
+
+        /** The setter. */
+        private final Method setter;
+
+        /** The testable. */
+        private final boolean testable;
+
+        /** The compiled accessor, only present when testable. */
+        private final PropertyAccessor accessor;
+
+        /**
+         * Instantiates a new bean property.
+         *
+         * @param name
+         *            the name
+         * @param getter
+         *            the getter
+         * @param setter
+         *            the setter
+         */
+        BeanProperty(final String name, final Method getter, final Method setter) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+
+            // The set method has 1 argument, which is of the same type as the return type of the get method, so we can
+            // test this property
+            this.testable = getter != null && setter != null && setter.getParameterCount() == 1
+                    && setter.getParameterTypes()[0] == getter.getReturnType();
+            this.accessor = this.testable ? PropertyAccessor.compile(getter, setter) : null;
+        }
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        String getName() {
+            return this.name;
+        }
+
+        /**
+         * Gets the getter.
+         *
+         * @return the getter
+         */
+        Method getGetter() {
+            return this.getter;
+        }
+
+        /**
+         * Gets the setter.
+         *
+         * @return the setter
+         */
+        Method getSetter() {
+            return this.setter;
+        }
+
+        /**
+         * Gets the compiled accessor.
+         *
+         * @return the accessor, only valid when testable
+         */
+        PropertyAccessor getAccessor() {
+            return this.accessor;
+        }
+
+        /**
+         * Gets the type.
+         *
+         * @return the type of the property, only valid when testable
+         */
+        Class<?> getType() {
+            return this.getter.getReturnType();
+        }
+
+        /**
+         * Checks if this property has a getter and setter of the same type.
+         *
+         * @return true, if testable
+         */
+        boolean isTestable() {
+            return this.testable;
+        }
+
+        /**
+         * Checks for setter.
+         *
+         * @return true, if successful
+         */
+        boolean hasSetter() {
+            return this.setter != null;
+        }
+    }
+
+}
@@ -0,0 +1,265 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bean Scanner discovers candidate beans below a package by reading class files with ASM, so classes are neither loaded
+ * nor initialized while scanning. A candidate is a public concrete top level or static nested class with a public
+ * constructor and at least one public getter.
+ */
+final class BeanScanner {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanScanner.class);
+
+    /** The Constant CLASS_SUFFIX. */
+    private static final String CLASS_SUFFIX = ".class";
+
+    /** The Constant SKIP_FLAGS for class reading, only the class structure is needed. */
+    private static final int SKIP_FLAGS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+
+    /** The Constant EXCLUDED_ACCESS flags. */
+    private static final int EXCLUDED_ACCESS = Opcodes.ACC_INTERFACE | Opcodes.ACC_ABSTRACT | Opcodes.ACC_ENUM
+            | Opcodes.ACC_ANNOTATION | Opcodes.ACC_SYNTHETIC | Opcodes.ACC_MODULE;
+
+    /**
+     * Prevent Instantiation of bean scanner.
+     */
+    private BeanScanner() {
+        // Prevent Instantiation
+    }
+
+    /**
+     * Scan the package and its sub packages for candidate beans.
+     *
+     * @param packagePrefix
+     *            the package prefix
+     * @param classLoader
+     *            the class loader
+     *
+     * @return the candidate class names, sorted
+     */
+    static List<String> scan(final String packagePrefix, final ClassLoader classLoader) {
+        final String path = packagePrefix.replace('.', '/');
+        final Set<String> found = new TreeSet<>();
+        try {
+            final Enumeration<URL> roots = classLoader.getResources(path);
+            while (roots.hasMoreElements()) {
+                final URL root = roots.nextElement();
+                if ("file".equals(root.getProtocol())) {
+                    BeanScanner.scanDirectory(Paths.get(root.toURI()), path, found);
+                } else if ("jar".equals(root.getProtocol())) {
+                    BeanScanner.scanJar(root, path, found);
+                } else {
+                    BeanScanner.LOGGER.warn("Unable to scan '{}', unsupported protocol", root);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Scan directory.
+     *
+     * @param directory
+     *            the directory
+     * @param path
+     *            the package path of the directory
+     * @param found
+     *            the found class names
+     *
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private static void scanDirectory(final Path directory, final String path, final Set<String> found)
+            throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                if (!file.getFileName().toString().endsWith(BeanScanner.CLASS_SUFFIX)) {
+                    continue;
+                }
+                try (InputStream input = Files.newInputStream(file)) {
+                    BeanScanner.inspect(input, found);
+                }
+            }
+        }
+    }
+
+    /**
+     * Scan jar.
+     *
+     * @param root
+     *            the url of the package within the jar
+     * @param path
+     *            the package path
+     * @param found
+     *            the found class names
+     *
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private static void scanJar(final URL root, final String path, final Set<String> found) throws IOException {
+        final URLConnection connection = root.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            BeanScanner.LOGGER.warn("Unable to scan '{}', not a jar connection", root);
+            return;
+        }
+        final JarURLConnection jarConnection = (JarURLConnection) connection;
+        jarConnection.setUseCaches(false);
+        try (JarFile jar = jarConnection.getJarFile()) {
+            final Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (entry.getName().startsWith(path + '/') && entry.getName().endsWith(BeanScanner.CLASS_SUFFIX)) {
+                    try (InputStream input = jar.getInputStream(entry)) {
+                        BeanScanner.inspect(input, found);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Inspect the class file, adding the class name when it is a candidate bean.
+     *
+     * @param input
+     *            the class file
+     * @param found
+     *            the found class names
+     *
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private static void inspect(final InputStream input, final Set<String> found) throws IOException {
+        final CandidateVisitor visitor = new CandidateVisitor();
+        try {
+            new ClassReader(input).accept(visitor, BeanScanner.SKIP_FLAGS);
+        } catch (final IllegalArgumentException e) {
+            // Class file version not supported by this asm, it cannot be inspected
+            BeanScanner.LOGGER.debug("Unable to read class file", e);
+            return;
+        }
+        if (visitor.isCandidate()) {
+            found.add(visitor.className);
+        }
+    }
+
+    /**
+     * The Class CandidateVisitor collects what is needed to decide whether a class is a candidate bean.
+     */
+    private static final class CandidateVisitor extends ClassVisitor {
+
+        /** The internal name. */
+        private String internalName;
+
+        /** The class name. */
+        private String className;
+
+        /** The access. */
+        private int access;
+
+        /** The nested flag, set for nested classes that are not public static members. */
+        private boolean excludedNested;
+
+        /** The public constructor flag. */
+        private boolean publicConstructor;
+
+        /** The public getter flag. */
+        private boolean publicGetter;
+
+        /**
+         * Instantiates a new candidate visitor.
+         */
+        CandidateVisitor() {
+            super(Opcodes.ASM9);
+        }
+
+        @Override
+        public void visit(final int version, final int access, final String name, final String signature,
+                final String superName, final String[] interfaces) {
+            this.internalName = name;
+            this.className = Type.getObjectType(name).getClassName();
+            this.access = access;
+        }
+
+        @Override
+        public void visitInnerClass(final String name, final String outerName, final String innerName,
+                final int access) {
+            // Only entry describing this class matters, local and anonymous classes have no outer name
+            if (name.equals(this.internalName) && (outerName == null || (access
+                    & (Opcodes.ACC_STATIC | Opcodes.ACC_PUBLIC)) != (Opcodes.ACC_STATIC | Opcodes.ACC_PUBLIC))) {
+                this.excludedNested = true;
+            }
+        }
+
+        @Override
+        public MethodVisitor visitMethod(final int access, final String name, final String descriptor,
+                final String signature, final String[] exceptions) {
+            if ((access & Opcodes.ACC_PUBLIC) == 0 || (access & Opcodes.ACC_STATIC) != 0) {
+                return null;
+            }
+            if ("<init>".equals(name)) {
+                this.publicConstructor = true;
+            } else if ((name.startsWith("get") || name.startsWith("is")) && descriptor.startsWith("()")
+                    && !descriptor.endsWith(")V")) {
+                this.publicGetter = true;
+            }
+            return null;
+        }
+
+        /**
+         * Checks if is candidate.
+         *
+         * @return true, if is candidate
+         */
+        boolean isCandidate() {
+            return (this.access & Opcodes.ACC_PUBLIC) != 0 && (this.access & BeanScanner.EXCLUDED_ACCESS) == 0
+                    && !this.excludedNested && this.publicConstructor && this.publicGetter
+                    && !this.className.endsWith("package-info");
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bean Shards assigns beans to one of several shards, so forked JVMs can each test their own share of a scan. The
+ * assignment only depends on the class names and weights, so every fork computes the same partition.
+ */
+final class BeanShards {
+
+    /** The Constant SHARD_INDEX_PROPERTY, the zero based index of the shard to test. */
+    static final String SHARD_INDEX_PROPERTY = "javabeantester.shardIndex";
+
+    /** The Constant SHARD_COUNT_PROPERTY, the number of shards. */
+    static final String SHARD_COUNT_PROPERTY = "javabeantester.shardCount";
+
+    /**
+     * Prevent Instantiation of bean shards.
+     */
+    private BeanShards() {
+        // Prevent Instantiation
+    }
+
+    /**
+     * Select the class names of the shard. Without weights classes are spread by a stable hash of their name. With
+     * weights, such as recorded test times, the heaviest classes are placed first each on the least loaded shard so
+     * shards finish at about the same time. Classes without a weight count as the average weight.
+     *
+     * @param classNames
+     *            the class names
+     * @param shardIndex
+     *            the shard index
+     * @param shardCount
+     *            the shard count
+     * @param weights
+     *            the weights by class name, may be empty
+     *
+     * @return the class names of the shard, in the given order
+     */
+    static List<String> select(final List<String> classNames, final int shardIndex, final int shardCount,
+            final Map<String, Long> weights) {
+        if (shardCount <= 1) {
+            return classNames;
+        }
+
+        final List<String> selected = new ArrayList<>();
+        if (weights.isEmpty()) {
+            for (final String className : classNames) {
+                if (Math.floorMod(BeanShards.hash(className), shardCount) == shardIndex) {
+                    selected.add(className);
+                }
+            }
+            return selected;
+        }
+
+        final long defaultWeight = Math.max(1L,
+                Math.round(weights.values().stream().mapToLong(Long::longValue).average().orElse(1)));
+        final List<String> heaviestFirst = new ArrayList<>(classNames);
+        heaviestFirst.sort(Comparator.<String> comparingLong(name -> weights.getOrDefault(name, defaultWeight))
+                .reversed().thenComparing(Comparator.naturalOrder()));
+
+        final long[] loads = new long[shardCount];
+        final Set<String> assigned = new HashSet<>();
+        for (final String className : heaviestFirst) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            loads[lightest] += weights.getOrDefault(className, defaultWeight);
+            if (lightest == shardIndex) {
+                assigned.add(className);
+            }
+        }
+
+        // Keep the given order
+        for (final String className : classNames) {
+            if (assigned.contains(className)) {
+                selected.add(className);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Stable hash of the class name. {@link String#hashCode()} is specified and so the same in every JVM, its bits are
+     * mixed so similar names spread evenly.
+     *
+     * @param className
+     *            the class name
+     *
+     * @return the hash
+     */
+    static int hash(final String className) {
+        int h = className.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.enums.BeanTestPhase;
+
+/**
+ * Bean Test Listener receives the start and end of each phase of a bean test, for example to find where the time of a
+ * test suite goes. Register listeners on a builder with {@link JavaBeanTesterBuilder#listener(BeanTestListener)}, or
+ * for every test in the JVM through {@link java.util.ServiceLoader} by listing the implementation in
+ * {@code META-INF/services/com.codebox.bean.BeanTestListener}.
+ * <p>
+ * Listeners are called on the thread running the phase and must be thread safe when tests run concurrently.
+ */
+public interface BeanTestListener {
+
+    /**
+     * Phase started.
+     *
+     * @param clazz
+     *            the class under test
+     * @param phase
+     *            the phase
+     */
+    default void phaseStarted(final Class<?> clazz, final BeanTestPhase phase) {
+        // Do nothing by default
+    }
+
+    /**
+     * Phase finished.
+     *
+     * @param clazz
+     *            the class under test
+     * @param phase
+     *            the phase
+     * @param elapsedNanos
+     *            the elapsed nanos
+     * @param allocatedBytes
+     *            the bytes allocated by the thread running the phase, or -1 when the JVM cannot measure them
+     * @param failure
+     *            the failure, or null when the phase passed
+     */
+    default void phaseFinished(final Class<?> clazz, final BeanTestPhase phase, final long elapsedNanos,
+            final long allocatedBytes, final Throwable failure) {
+        // Do nothing by default
+    }
+
+}
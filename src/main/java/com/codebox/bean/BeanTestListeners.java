@@ -0,0 +1,172 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.enums.BeanTestPhase;
+import com.codebox.events.BeanPhaseEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bean Test Listeners runs the phases of a bean test and reports them to the registered and global listeners and to
+ * flight recorder. Global listeners are loaded once through {@link ServiceLoader}. When no listener is registered and
+ * the flight recorder event is disabled a phase runs directly, so timing and allocation are only measured when someone
+ * listens.
+ */
+final class BeanTestListeners {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanTestListeners.class);
+
+    /** The Constant GLOBAL listeners. */
+    private static final List<BeanTestListener> GLOBAL = BeanTestListeners.loadGlobal();
+
+    /** The Constant THREADS, null when the JVM cannot measure allocated bytes. */
+    private static final com.sun.management.ThreadMXBean THREADS = BeanTestListeners.allocationCounter();
+
+    /**
+     * Prevent Instantiation of bean test listeners.
+     */
+    private BeanTestListeners() {
+        // Prevent Instantiation
+    }
+
+    /**
+     * Run the phase, reporting it to the registered and global listeners.
+     *
+     * @param clazz
+     *            the class under test
+     * @param phase
+     *            the phase
+     * @param registered
+     *            the listeners registered on the builder
+     * @param body
+     *            the body of the phase
+     */
+    static void run(final Class<?> clazz, final BeanTestPhase phase, final List<BeanTestListener> registered,
+            final Runnable body) {
+        final List<BeanTestListener> listeners = BeanTestListeners.of(registered);
+        final BeanPhaseEvent event = new BeanPhaseEvent();
+        if (listeners.isEmpty() && !event.isEnabled()) {
+            body.run();
+            return;
+        }
+
+        for (final BeanTestListener listener : listeners) {
+            listener.phaseStarted(clazz, phase);
+        }
+        final long allocatedBefore = listeners.isEmpty() ? -1 : BeanTestListeners.allocatedBytes();
+        final long start = System.nanoTime();
+        event.begin();
+        Throwable failure = null;
+        try {
+            body.run();
+        } catch (final RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setBeanClass(clazz.getName());
+                event.setPhase(phase.name());
+                event.setPassed(failure == null);
+                event.commit();
+            }
+            final long elapsed = System.nanoTime() - start;
+            final long allocated = allocatedBefore < 0 ? -1 : BeanTestListeners.allocatedBytes() - allocatedBefore;
+            for (final BeanTestListener listener : listeners) {
+                listener.phaseFinished(clazz, phase, elapsed, allocated, failure);
+            }
+        }
+    }
+
+    /**
+     * Gets the listeners to report to, global listeners first.
+     *
+     * @param registered
+     *            the listeners registered on the builder
+     *
+     * @return the listeners
+     */
+    static List<BeanTestListener> of(final List<BeanTestListener> registered) {
+        if (registered.isEmpty()) {
+            return BeanTestListeners.GLOBAL;
+        }
+        if (BeanTestListeners.GLOBAL.isEmpty()) {
+            return registered;
+        }
+        final List<BeanTestListener> listeners = new ArrayList<>(BeanTestListeners.GLOBAL);
+        listeners.addAll(registered);
+        return listeners;
+    }
+
+    /**
+     * Gets the bytes allocated by the current thread.
+     *
+     * @return the allocated bytes, or -1 when the JVM cannot measure them
+     */
+    static long allocatedBytes() {
+        if (BeanTestListeners.THREADS == null) {
+            return -1;
+        }
+        return BeanTestListeners.THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Load the global listeners.
+     *
+     * @return the listeners
+     */
+    private static List<BeanTestListener> loadGlobal() {
+        final List<BeanTestListener> listeners = new ArrayList<>();
+        try {
+            for (final BeanTestListener listener : ServiceLoader.load(BeanTestListener.class)) {
+                listeners.add(listener);
+            }
+        } catch (final ServiceConfigurationError e) {
+            BeanTestListeners.LOGGER.warn("Unable to load bean test listeners", e);
+        }
+        return Collections.unmodifiableList(listeners);
+    }
+
+    /**
+     * Gets the allocation counter of the JVM.
+     *
+     * @return the thread MX bean, or null when allocated bytes cannot be measured
+     */
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        try {
+            final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                final com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+                if (counter.isThreadAllocatedMemorySupported() && counter.isThreadAllocatedMemoryEnabled()) {
+                    return counter;
+                }
+            }
+        } catch (final LinkageError e) {
+            BeanTestListeners.LOGGER.trace("Allocated bytes are not available on this JVM", e);
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,261 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Hash Distribution holds the sample size and collision ratio of the hash distribution check, and computes the bucket
+ * statistics of instances placed in a {@link java.util.HashMap} sized for them. Buckets are chosen as
+ * {@link java.util.HashMap} does, spreading the high bits of the hash code into the low bits.
+ */
+final class HashDistribution {
+
+    /** The Constant DEFAULT_MAX_RATIO of collisions over those expected of uniform hashing. */
+    static final double DEFAULT_MAX_RATIO = 2.0;
+
+    /** The Constant SEED, fixed so the instances are reproducible. */
+    static final long SEED = 0x5DEECE66DL;
+
+    /** The Constant LOAD_FACTOR of {@link java.util.HashMap}. */
+    private static final float LOAD_FACTOR = 0.75F;
+
+    /** The sample size. */
+    private final int sampleSize;
+
+    /** The max ratio. */
+    private final double maxRatio;
+
+    /**
+     * Instantiates a new hash distribution.
+     *
+     * @param sampleSize
+     *            the sample size
+     * @param maxRatio
+     *            the max ratio of collisions over those expected of uniform hashing
+     */
+    HashDistribution(final int sampleSize, final double maxRatio) {
+        if (sampleSize < 2) {
+            throw new IllegalArgumentException("Sample size must be at least 2, was " + sampleSize);
+        }
+        this.sampleSize = sampleSize;
+        this.maxRatio = maxRatio;
+    }
+
+    /**
+     * Gets the sample size.
+     *
+     * @return the sample size
+     */
+    int getSampleSize() {
+        return this.sampleSize;
+    }
+
+    /**
+     * Gets the max ratio.
+     *
+     * @return the max ratio
+     */
+    double getMaxRatio() {
+        return this.maxRatio;
+    }
+
+    /**
+     * Checks if the statistics are over the max ratio.
+     *
+     * @param statistics
+     *            the statistics
+     *
+     * @return true, if over
+     */
+    boolean isOver(final Statistics statistics) {
+        return statistics.getRatio() > this.maxRatio;
+    }
+
+    /**
+     * Spread the hash code as {@link java.util.HashMap} does.
+     *
+     * @param hashCode
+     *            the hash code
+     *
+     * @return the spread hash
+     */
+    static int spread(final int hashCode) {
+        return hashCode ^ hashCode >>> 16;
+    }
+
+    /**
+     * Table size of a {@link java.util.HashMap} holding the entries without resizing.
+     *
+     * @param entries
+     *            the entries
+     *
+     * @return the table size, a power of two
+     */
+    static int tableSize(final int entries) {
+        final int capacity = (int) Math.ceil(entries / HashDistribution.LOAD_FACTOR);
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * Statistics of the distinct instances.
+     *
+     * @param instances
+     *            the distinct instances
+     *
+     * @return the statistics
+     */
+    static Statistics statistics(final Collection<?> instances) {
+        final int buckets = HashDistribution.tableSize(instances.size());
+        final int[] chains = new int[buckets];
+        final int[] hashes = new int[instances.size()];
+        int i = 0;
+        for (final Object instance : instances) {
+            final int hash = instance.hashCode();
+            hashes[i++] = hash;
+            chains[HashDistribution.spread(hash) & buckets - 1]++;
+        }
+
+        int occupied = 0;
+        int longest = 0;
+        for (final int chain : chains) {
+            if (chain > 0) {
+                occupied++;
+            }
+            longest = Math.max(longest, chain);
+        }
+
+        Arrays.sort(hashes);
+        int distinctHashes = hashes.length == 0 ? 0 : 1;
+        for (int j = 1; j < hashes.length; j++) {
+            if (hashes[j] != hashes[j - 1]) {
+                distinctHashes++;
+            }
+        }
+
+        return new Statistics(instances.size(), buckets, occupied, longest, distinctHashes);
+    }
+
+    @Override
+    public String toString() {
+        return this.sampleSize + " samples/" + this.maxRatio;
+    }
+
+    /**
+     * The Class Statistics of the buckets.
+     */
+    static final class Statistics {
+
+        /** The entries. */
+        private final int entries;
+
+        /** The buckets. */
+        private final int buckets;
+
+        /** The occupied buckets. */
+        private final int occupied;
+
+        /** The longest chain. */
+        private final int longestChain;
+
+        /** The distinct hash codes. */
+        private final int distinctHashes;
+
+        /**
+         * Instantiates a new statistics.
+         *
+         * @param entries
+         *            the entries
+         * @param buckets
+         *            the buckets
+         * @param occupied
+         *            the occupied buckets
+         * @param longestChain
+         *            the longest chain
+         * @param distinctHashes
+         *            the distinct hash codes
+         */
+        Statistics(final int entries, final int buckets, final int occupied, final int longestChain,
+                final int distinctHashes) {
+            this.entries = entries;
+            this.buckets = buckets;
+            this.occupied = occupied;
+            this.longestChain = longestChain;
+            this.distinctHashes = distinctHashes;
+        }
+
+        /**
+         * Gets the collisions, the entries sharing a bucket with an earlier entry.
+         *
+         * @return the collisions
+         */
+        int getCollisions() {
+            return this.entries - this.occupied;
+        }
+
+        /**
+         * Gets the collisions expected of uniform hashing.
+         *
+         * @return the expected collisions
+         */
+        double getExpectedCollisions() {
+            return this.entries - this.buckets * (1 - Math.pow(1 - 1.0 / this.buckets, this.entries));
+        }
+
+        /**
+         * Gets the ratio of collisions over those expected of uniform hashing.
+         *
+         * @return the ratio
+         */
+        double getRatio() {
+            final double expected = this.getExpectedCollisions();
+            if (expected < 1) {
+                // Too few entries to expect a collision, compare against a single one
+                return this.getCollisions();
+            }
+            return this.getCollisions() / expected;
+        }
+
+        /**
+         * Gets the longest chain.
+         *
+         * @return the longest chain
+         */
+        int getLongestChain() {
+            return this.longestChain;
+        }
+
+        /**
+         * Gets the distinct hash codes.
+         *
+         * @return the distinct hash codes
+         */
+        int getDistinctHashes() {
+            return this.distinctHashes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%d collisions of %d distinct instances in %d buckets, %.2f times the %.1f expected of uniform"
+                            + " hashing (%d occupied buckets, longest chain %d, %d distinct hash codes)",
+                    this.getCollisions(), this.entries, this.buckets, this.getRatio(), this.getExpectedCollisions(),
+                    this.occupied, this.longestChain, this.distinctHashes);
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental Index records the {@link BeanFingerprint} of every bean that last passed, so unchanged beans need not be
+ * tested again. The index is a properties file of class name to fingerprint.
+ */
+final class IncrementalIndex {
+
+    /** The file. */
+    private final Path file;
+
+    /** The fingerprints by class name. */
+    private final ConcurrentMap<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new incremental index, loading the file when it exists.
+     *
+     * @param file
+     *            the file
+     */
+    IncrementalIndex(final Path file) {
+        this.file = file;
+        if (Files.isRegularFile(file)) {
+            final Properties properties = new Properties();
+            try (InputStream input = Files.newInputStream(file)) {
+                properties.load(input);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (final String className : properties.stringPropertyNames()) {
+                this.fingerprints.put(className, properties.getProperty(className));
+            }
+        }
+    }
+
+    /**
+     * Checks if the bean passed with the same fingerprint.
+     *
+     * @param className
+     *            the class name
+     * @param fingerprint
+     *            the fingerprint
+     *
+     * @return true, if unchanged
+     */
+    boolean isUnchanged(final String className, final String fingerprint) {
+        return fingerprint.equals(this.fingerprints.get(className));
+    }
+
+    /**
+     * Record that the bean passed.
+     *
+     * @param className
+     *            the class name
+     * @param fingerprint
+     *            the fingerprint
+     */
+    void passed(final String className, final String fingerprint) {
+        this.fingerprints.put(className, fingerprint);
+    }
+
+    /**
+     * Record that the bean failed, so it is tested again.
+     *
+     * @param className
+     *            the class name
+     */
+    void failed(final String className) {
+        this.fingerprints.remove(className);
+    }
+
+    /**
+     * Save the index, replacing the file in one move.
+     */
+    void save() {
+        final Map<String, String> sorted = new TreeMap<>(this.fingerprints);
+        final List<String> lines = sorted.entrySet().stream().map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.toList());
+        try {
+            final Path directory = this.file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            final Path temporary = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+            Files.write(temporary, lines, StandardCharsets.ISO_8859_1);
+            Files.move(temporary, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
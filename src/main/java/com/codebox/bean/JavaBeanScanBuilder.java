@@ -0,0 +1,415 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.bean.ScanResult.ClassResult;
+import com.codebox.enums.ExecutionMode;
+import com.codebox.enums.ExtensionMode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+
+/**
+ * The Class JavaBeanScanBuilder configures testing of every candidate bean below a package. Each bean is tested as if
+ * by {@code JavaBeanTester.builder(clazz).test()} on a fork join pool or on virtual threads.
+ */
+public class JavaBeanScanBuilder {
+
+    /** The package prefix. */
+    private final String packagePrefix;
+
+    /** The class loader. */
+    private ClassLoader classLoader;
+
+    /** The pool. */
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /** The execution mode. */
+    private ExecutionMode executionMode = ExecutionMode.FORK_JOIN;
+
+    /** The extension mode. */
+    private ExtensionMode extensionMode = ExtensionMode.STANDARD;
+
+    /** The shard index. */
+    private int shardIndex;
+
+    /** The shard count, 1 when not sharded. */
+    private int shardCount = 1;
+
+    /** The shard weights by class name. */
+    private final Map<String, Long> shardWeights = new HashMap<>();
+
+    /** The incremental flag. */
+    private boolean incremental;
+
+    /** The incremental index file, null for the default. */
+    private Path incrementalIndex;
+
+    /** The configuration applied to each builder. */
+    private Consumer<JavaBeanTesterBuilder<?, ?>> configuration = builder -> {
+        // Defaults only
+    };
+
+    /**
+     * Instantiates a new java bean scan builder.
+     *
+     * @param packagePrefix
+     *            the package prefix
+     */
+    JavaBeanScanBuilder(final String packagePrefix) {
+        this.packagePrefix = packagePrefix;
+        final ClassLoader context = Thread.currentThread().getContextClassLoader();
+        this.classLoader = context == null ? JavaBeanScanBuilder.class.getClassLoader() : context;
+
+        // Forked JVMs pass their shard through system properties
+        final String index = System.getProperty(BeanShards.SHARD_INDEX_PROPERTY);
+        final String count = System.getProperty(BeanShards.SHARD_COUNT_PROPERTY);
+        if (index != null && count != null) {
+            this.shard(Integer.parseInt(index.trim()), Integer.parseInt(count.trim()));
+        }
+    }
+
+    /**
+     * Class loader to discover and load beans from. Defaults to the thread context class loader.
+     *
+     * @param classLoader
+     *            the class loader
+     *
+     * @return the java bean scan builder
+     */
+    public JavaBeanScanBuilder classLoader(final ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        return this;
+    }
+
+    /**
+     * Configure each bean's builder, for instance to turn on checks or skip properties.
+     *
+     * @param configuration
+     *            the configuration
+     *
+     * @return the java bean scan builder
+     */
+    public JavaBeanScanBuilder configure(final Consumer<JavaBeanTesterBuilder<?, ?>> configuration) {
+        this.configuration = configuration;
+        return this;
+    }
+
+    /**
+     * Execution mode used to test beans. {@link ExecutionMode#VIRTUAL_THREADS} suits suites dominated by class loading
+     * and reflection, it falls back to the pool when the runtime has no virtual threads.
+     *
+     * @param executionMode
+     *            the execution mode
+     *
+     * @return the java bean scan builder
+     */
+    public JavaBeanScanBuilder executionMode(final ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+        return this;
+    }
+
+    /**
+     * Extension mode used to generate extensions. Use {@link ExtensionMode#HIDDEN} on large scans.
+     *
+     * @param extensionMode
+     *            the extension mode
+     *
+     * @return the java bean scan builder
+     */
+    public JavaBeanScanBuilder extensionMode(final ExtensionMode extensionMode) {
+        this.extensionMode = extensionMode;
+        return this;
+    }
+
+    /**
+     * Incremental testing, skipping beans that passed before and whose fingerprint is unchanged. The index is kept
+     * below {@code target/javabean-tester}, one per shard.
+     *
+     * @return the java bean scan builder
+     */
+    public JavaBeanScanBuilder incremental() {
+        return this.incremental(null);
+    }
+
+    /**
+     * Incremental testing, skipping beans that passed before and whose fingerprint is unchanged. The fingerprint covers
+     * the class bytes of the bean, its super classes and its property types (transitively) plus the builder
+     * configuration.
+     *
+     * @param indexFile
+     *            the index file, null for the default below {@code target/javabean-tester}
+     *
+     * @return the java bean scan builder
+     */
+    public JavaBeanScanBuilder incremental(final Path indexFile) {
+        this.incremental = true;
+        this.incrementalIndex = indexFile;
+        return this;
+    }
+
+    /**
+     * Pool to test beans on. Defaults to the common pool.
+     *
+     * @param pool
+     *            the pool
+     *
+     * @return the java bean scan builder
+     */
+    public JavaBeanScanBuilder pool(final ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Shard to test, out of the shard count. Every fork scanning the same classes with the same weights computes the
+     * same partition, so giving each fork its own index tests every bean exactly once. Defaults to the
+     * {@value BeanShards#SHARD_INDEX_PROPERTY} and {@value BeanShards#SHARD_COUNT_PROPERTY} system properties when both
+     * are set, otherwise all beans are tested.
+     *
+     * @param shardIndex
+     *            the zero based shard index
+     * @param shardCount
+     *            the shard count
+     *
+     * @return the java bean scan builder
+     */
+    public JavaBeanScanBuilder shard(final int shardIndex, final int shardCount) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid shard %d of %d, index must be from 0 to count - 1", shardIndex, shardCount));
+        }
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        return this;
+    }
+
+    /**
+     * Shard weights, such as recorded test nanos by class name, so shards finish at about the same time.
+     *
+     * @param weights
+     *            the weights by class name
+     *
+     * @return the java bean scan builder
+     */
+    public JavaBeanScanBuilder shardWeights(final Map<String, Long> weights) {
+        this.shardWeights.putAll(weights);
+        return this;
+    }
+
+    /**
+     * Shard weights read from timings written by {@link ScanResult#writeTimings(Path)}. Missing files are ignored so
+     * the first run simply shards by hash.
+     *
+     * @param files
+     *            the timing files
+     *
+     * @return the java bean scan builder
+     */
+    public JavaBeanScanBuilder shardWeights(final Path... files) {
+        for (final Path file : files) {
+            if (!Files.isRegularFile(file)) {
+                continue;
+            }
+            final Properties timings = new Properties();
+            try (InputStream input = Files.newInputStream(file)) {
+                timings.load(input);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (final String className : timings.stringPropertyNames()) {
+                this.shardWeights.put(className, Long.valueOf(timings.getProperty(className).trim()));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Test every candidate bean.
+     *
+     * @return the scan result
+     */
+    public ScanResult test() {
+        final long start = System.nanoTime();
+        final List<String> classNames = this.classNames();
+
+        final ExecutorService virtualThreads = this.executionMode == ExecutionMode.VIRTUAL_THREADS
+                ? VirtualThreads.newExecutor()
+                : null;
+        final ExecutorService executor = virtualThreads == null ? this.pool : virtualThreads;
+        try {
+            final IncrementalIndex index = this.incremental ? new IncrementalIndex(this.incrementalIndexFile()) : null;
+            final List<Future<ClassResult>> tasks = new ArrayList<>(classNames.size());
+            for (final String className : classNames) {
+                tasks.add(executor.submit(() -> this.test(className, index)));
+            }
+
+            final List<ClassResult> results = new ArrayList<>(tasks.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                final ClassResult result = JavaBeanScanBuilder.await(tasks.get(i), classNames.get(i));
+                if (index != null && !result.isPassed()) {
+                    index.failed(result.getClassName());
+                }
+                results.add(result);
+            }
+            if (index != null) {
+                index.save();
+            }
+            return new ScanResult(results, System.nanoTime() - start);
+        } finally {
+            if (virtualThreads != null) {
+                virtualThreads.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Await the result of testing the bean.
+     *
+     * @param task
+     *            the task
+     * @param className
+     *            the class name
+     *
+     * @return the class result
+     */
+    private static ClassResult await(final Future<ClassResult> task, final String className) {
+        try {
+            return task.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ClassResult(className, e, 0);
+        } catch (final ExecutionException e) {
+            return new ClassResult(className, e.getCause(), 0);
+        }
+    }
+
+    /**
+     * Dynamic tests for every candidate bean, one container per class holding one test per phase. Return from a JUnit
+     * {@code @TestFactory} method, the pool and execution mode are left to JUnit. Incremental testing does not apply.
+     *
+     * @return the dynamic nodes
+     */
+    public Stream<DynamicNode> dynamicTests() {
+        return this.classNames().stream().map(this::dynamicTests);
+    }
+
+    /**
+     * Dynamic tests for the bean.
+     *
+     * @param className
+     *            the class name
+     *
+     * @return the dynamic node
+     */
+    private DynamicNode dynamicTests(final String className) {
+        try {
+            return this.builder(className).dynamicTests();
+        } catch (final Exception | LinkageError e) {
+            // Report the bean that cannot be loaded without hiding the others
+            return DynamicTest.dynamicTest(className, () -> {
+                throw e;
+            });
+        }
+    }
+
+    /**
+     * Test the bean.
+     *
+     * @param className
+     *            the class name
+     * @param index
+     *            the incremental index, null when not incremental
+     *
+     * @return the class result
+     */
+    ClassResult test(final String className, final IncrementalIndex index) {
+        final long start = System.nanoTime();
+        try {
+            final JavaBeanTesterBuilder<?, ?> builder = this.builder(className);
+            final String fingerprint = index == null ? null : BeanFingerprint.of(builder.worker(), this.extensionMode);
+            if (index != null && index.isUnchanged(className, fingerprint)) {
+                return new ClassResult(className, null, System.nanoTime() - start, true);
+            }
+            builder.test();
+            if (index != null) {
+                index.passed(className, fingerprint);
+            }
+            return new ClassResult(className, null, System.nanoTime() - start);
+        } catch (final Exception | AssertionError | LinkageError e) {
+            return new ClassResult(className, e, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Incremental index file, by default one per package and shard.
+     *
+     * @return the path
+     */
+    private Path incrementalIndexFile() {
+        if (this.incrementalIndex != null) {
+            return this.incrementalIndex;
+        }
+        return Paths.get("target", "javabean-tester",
+                "incremental-" + this.packagePrefix + "-" + this.shardIndex + "of" + this.shardCount + ".properties");
+    }
+
+    /**
+     * Class names of the candidate beans of this shard.
+     *
+     * @return the class names, sorted
+     */
+    private List<String> classNames() {
+        return BeanShards.select(BeanScanner.scan(this.packagePrefix, this.classLoader), this.shardIndex,
+                this.shardCount, this.shardWeights);
+    }
+
+    /**
+     * Configured builder of the bean.
+     *
+     * @param className
+     *            the class name
+     *
+     * @return the java bean tester builder
+     *
+     * @throws ClassNotFoundException
+     *             the class not found exception
+     */
+    private JavaBeanTesterBuilder<?, ?> builder(final String className) throws ClassNotFoundException {
+        final Class<?> clazz = Class.forName(className, false, this.classLoader);
+        final JavaBeanTesterBuilder<?, ?> builder = JavaBeanTester.builder(clazz, this.extensionMode);
+        this.configuration.accept(builder);
+        return builder;
+    }
+
+}
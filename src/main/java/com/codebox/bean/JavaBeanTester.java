@@ -14,12 +14,20 @@
  */
 package com.codebox.bean;
 
+import com.codebox.builders.HiddenClasses;
+import com.codebox.enums.ExtensionMode;
+import com.codebox.events.ExtensionGeneratedEvent;
+
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.stream.Stream;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.implementation.EqualsMethod;
 import net.bytebuddy.implementation.HashCodeMethod;
@@ -27,6 +35,8 @@ import net.bytebuddy.implementation.SuperMethodCall;
 import net.bytebuddy.implementation.ToStringMethod;
 import net.bytebuddy.matcher.ElementMatchers;
 
+import org.junit.jupiter.api.DynamicNode;
+
 /**
  * This helper class can be used to unit test the get/set/equals/canEqual/toString/hashCode methods of JavaBean-style
  * Value Objects.
@@ -36,6 +46,27 @@ public enum JavaBeanTester {
     // Private Usage
     ;
 
+    /**
+     * The generated extensions. Keyed weakly by class (and therefore class loader) so each class is only generated once
+     * per class loader and released along with it.
+     */
+    private static final ClassValue<Class<?>> EXTENSIONS = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(final Class<?> type) {
+            return JavaBeanTester.generateExtension(type, ExtensionMode.STANDARD);
+        }
+    };
+
+    /**
+     * The generated hidden extensions. Only weakly referenced so they are unloaded once no builder uses them.
+     */
+    private static final ClassValue<WeakExtension> HIDDEN_EXTENSIONS = new ClassValue<>() {
+        @Override
+        protected WeakExtension computeValue(final Class<?> type) {
+            return new WeakExtension(type);
+        }
+    };
+
     /**
      * Configure JavaBeanTester using Fluent API.
      *
@@ -47,26 +78,168 @@ public enum JavaBeanTester {
      * @return A builder implementing the fluent API to configure JavaBeanTester
      */
     public static <T> JavaBeanTesterBuilder<T, ?> builder(final Class<T> clazz) {
+        return JavaBeanTester.builder(clazz, ExtensionMode.STANDARD);
+    }
+
+    /**
+     * Configure JavaBeanTester using Fluent API. Use {@link ExtensionMode#HIDDEN} on large suites so generated
+     * extensions can be unloaded once the builder is no longer referenced.
+     *
+     * @param <T>
+     *            the generic type
+     * @param clazz
+     *            the clazz
+     * @param mode
+     *            the extension mode
+     *
+     * @return A builder implementing the fluent API to configure JavaBeanTester
+     */
+    public static <T> JavaBeanTesterBuilder<T, ?> builder(final Class<T> clazz, final ExtensionMode mode) {
         // If class is final, use Object.class for comparison needs
         if (Modifier.isFinal(clazz.getModifiers())) {
             return new JavaBeanTesterBuilder<>(clazz, Object.class);
         }
 
-        // Build extension from class using byte buddy
-        Class<? extends T> loaded = new ByteBuddy().with(new NamingStrategy.AbstractBase() {
+        // Builder with proper extension class
+        return builder(clazz, JavaBeanTester.extension(clazz, mode));
+    }
+
+    /**
+     * Configure testing of every candidate bean below the package using Fluent API. Classes are discovered from their
+     * class files without being initialized, and each bean is tested on a fork join pool.
+     *
+     * @param packagePrefix
+     *            the package prefix, such as {@code com.acme.model}
+     *
+     * @return A builder implementing the fluent API to configure the scan
+     */
+    public static JavaBeanScanBuilder scan(final String packagePrefix) {
+        return new JavaBeanScanBuilder(packagePrefix);
+    }
+
+    /**
+     * Dynamic tests for the classes, one container per class holding one test per phase. Return from a JUnit
+     * {@code @TestFactory} method.
+     *
+     * @param classes
+     *            the classes
+     *
+     * @return the dynamic nodes
+     */
+    public static Stream<DynamicNode> dynamicTests(final Class<?>... classes) {
+        return Arrays.stream(classes).map(clazz -> JavaBeanTester.builder(clazz).dynamicTests());
+    }
+
+    /**
+     * Dynamic tests for every candidate bean below the package, one container per class holding one test per phase.
+     * Return from a JUnit {@code @TestFactory} method.
+     *
+     * @param packagePrefix
+     *            the package prefix, such as {@code com.acme.model}
+     *
+     * @return the dynamic nodes
+     */
+    public static Stream<DynamicNode> dynamicTests(final String packagePrefix) {
+        return JavaBeanTester.scan(packagePrefix).dynamicTests();
+    }
+
+    /**
+     * Gets the extension of the class, generating it on first use.
+     *
+     * @param <T>
+     *            the generic type
+     * @param clazz
+     *            the clazz
+     * @param mode
+     *            the extension mode
+     *
+     * @return the extension
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Class<? extends T> extension(final Class<T> clazz, final ExtensionMode mode) {
+        if (mode == ExtensionMode.HIDDEN) {
+            return (Class<? extends T>) JavaBeanTester.HIDDEN_EXTENSIONS.get(clazz).get();
+        }
+        return (Class<? extends T>) JavaBeanTester.EXTENSIONS.get(clazz);
+    }
+
+    /**
+     * Generate extension from class using byte buddy, recording a flight recorder event when enabled.
+     *
+     * @param <T>
+     *            the generic type
+     * @param clazz
+     *            the clazz
+     * @param mode
+     *            the extension mode
+     *
+     * @return the extension
+     */
+    static <T> Class<? extends T> generateExtension(final Class<T> clazz, final ExtensionMode mode) {
+        final ExtensionGeneratedEvent event = new ExtensionGeneratedEvent();
+        event.begin();
+        final Class<? extends T> extension = JavaBeanTester.loadExtension(clazz, mode);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setBeanClass(clazz.getName());
+            event.setExtensionClass(extension.getName());
+            event.setGenerator("ByteBuddy");
+            event.setHidden(HiddenClasses.isHidden(extension));
+            event.commit();
+        }
+        return extension;
+    }
+
+    /**
+     * Make and load extension from class using byte buddy.
+     *
+     * @param <T>
+     *            the generic type
+     * @param clazz
+     *            the clazz
+     * @param mode
+     *            the extension mode
+     *
+     * @return the extension
+     */
+    private static <T> Class<? extends T> loadExtension(final Class<T> clazz, final ExtensionMode mode) {
+        if (mode == ExtensionMode.HIDDEN && HiddenClasses.isSupported()) {
+            // Hidden classes must reside in the package of the class
+            final Class<?> hidden = HiddenClasses.define(clazz,
+                    JavaBeanTester.makeExtension(clazz, clazz.getName() + "$JavaBeanTesterExtension").getBytes());
+            if (hidden != null) {
+                return hidden.asSubclass(clazz);
+            }
+        }
+
+        // Use fully qualified name so same simple names in different packages do not collide
+        return JavaBeanTester.makeExtension(clazz, "com.codebox.bean.extended." + clazz.getName())
+                .load(clazz.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+    }
+
+    /**
+     * Make extension from class using byte buddy.
+     *
+     * @param <T>
+     *            the generic type
+     * @param clazz
+     *            the clazz
+     * @param name
+     *            the name of the extension
+     *
+     * @return the unloaded extension
+     */
+    private static <T> DynamicType.Unloaded<T> makeExtension(final Class<T> clazz, final String name) {
+        return new ByteBuddy().with(new NamingStrategy.AbstractBase() {
             @Override
             protected String name(TypeDescription superClass) {
-                return "com.codebox.bean.Extended" + superClass.getSimpleName();
+                return name;
             }
         }).subclass(clazz).method(ElementMatchers.any()).intercept(SuperMethodCall.INSTANCE)
                 .method(ElementMatchers.isEquals()).intercept(EqualsMethod.requiringSuperClassEquality())
                 .method(ElementMatchers.isHashCode()).intercept(HashCodeMethod.usingSuperClassOffset())
                 .method(ElementMatchers.isToString()).intercept(ToStringMethod.prefixedBySimpleClassName())
-                .defineField("javabeanExtension", String.class, Visibility.PACKAGE_PRIVATE).make()
-                .load(clazz.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
-
-        // Builder with proper extension class
-        return builder(clazz, loaded);
+                .defineField("javabeanExtension", String.class, Visibility.PACKAGE_PRIVATE).make();
     }
 
     /**
@@ -86,4 +259,41 @@ public enum JavaBeanTester {
     public static <T, E> JavaBeanTesterBuilder<T, E> builder(final Class<T> clazz, final Class<E> extension) {
         return new JavaBeanTesterBuilder<>(clazz, extension);
     }
+
+    /**
+     * The Class WeakExtension holds a weakly referenced extension, regenerating it once it has been unloaded.
+     */
+    private static final class WeakExtension {
+
+        /** The clazz. */
+        private final Class<?> clazz;
+
+        /** The extension. */
+        private WeakReference<Class<?>> extension = new WeakReference<>(null);
+
+        /**
+         * Instantiates a new weak extension.
+         *
+         * @param clazz
+         *            the clazz
+         */
+        WeakExtension(final Class<?> clazz) {
+            this.clazz = clazz;
+        }
+
+        /**
+         * Gets the extension, generating it if not available.
+         *
+         * @return the extension
+         */
+        synchronized Class<?> get() {
+            Class<?> loaded = this.extension.get();
+            if (loaded == null) {
+                loaded = JavaBeanTester.generateExtension(this.clazz, ExtensionMode.HIDDEN);
+                this.extension = new WeakReference<>(loaded);
+            }
+            return loaded;
+        }
+    }
+
 }
@@ -17,13 +17,18 @@ package com.codebox.bean;
 import com.codebox.enums.CheckClear;
 import com.codebox.enums.CheckConstructor;
 import com.codebox.enums.CheckEquals;
+import com.codebox.enums.CheckSensitivity;
 import com.codebox.enums.CheckSerialize;
 import com.codebox.enums.LoadData;
+import com.codebox.enums.ParallelProperties;
 import com.codebox.enums.SkipStrictSerialize;
 import com.codebox.instance.ConstructorInstance;
 
+import java.time.Clock;
 import java.util.Arrays;
 
+import org.junit.jupiter.api.DynamicContainer;
+
 /**
  * The Class JavaBeanTesterBuilder.
  *
@@ -59,6 +64,32 @@ public class JavaBeanTesterBuilder<T, E> {
         this.worker = new JavaBeanTesterWorker<>(clazz, extension);
     }
 
+    /**
+     * Benchmark Accessors measures the ns/op and bytes/op of each getter and setter on a loaded instance and reports
+     * them, without thresholds.
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> benchmarkAccessors() {
+        return this.benchmarkAccessors(0, 0);
+    }
+
+    /**
+     * Benchmark Accessors measures the ns/op and bytes/op of each getter and setter on a loaded instance. Fails when
+     * any getter or setter is over the thresholds of the class.
+     *
+     * @param maxNanosPerOp
+     *            the max nanos per call, not limited when zero or less
+     * @param maxBytesPerOp
+     *            the max bytes allocated per call, not limited when zero or less
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> benchmarkAccessors(final long maxNanosPerOp, final long maxBytesPerOp) {
+        this.worker.setAccessorBenchmark(new AccessorBenchmark(maxNanosPerOp, maxBytesPerOp));
+        return this;
+    }
+
     /**
      * Check Clear.
      *
@@ -125,6 +156,59 @@ public class JavaBeanTesterBuilder<T, E> {
         return this;
     }
 
+    /**
+     * Check Hash Distribution of distinct instances with varying property values, failing when they collide in the
+     * buckets of a {@link java.util.HashMap} more than twice as often as uniform hashing would.
+     *
+     * @param sampleSize
+     *            the number of instances
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> checkHashDistribution(final int sampleSize) {
+        return this.checkHashDistribution(sampleSize, HashDistribution.DEFAULT_MAX_RATIO);
+    }
+
+    /**
+     * Check Hash Distribution of distinct instances with varying property values, failing when they collide in the
+     * buckets of a {@link java.util.HashMap} more than the max ratio over uniform hashing.
+     *
+     * @param sampleSize
+     *            the number of instances
+     * @param maxCollisionRatio
+     *            the max ratio of collisions over those expected of uniform hashing
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> checkHashDistribution(final int sampleSize, final double maxCollisionRatio) {
+        this.worker.setHashDistribution(new HashDistribution(sampleSize, maxCollisionRatio));
+        return this;
+    }
+
+    /**
+     * Check Sensitivity of equals and hashCode to each property, failing when a property changes equals but not
+     * hashCode (a collision magnet) or changes hashCode of equal instances (a contract violation). Applies to
+     * {@link #testEquals(Object, Object)} and, with {@link #checkEquals()} and {@link #loadData()}, to {@link #test()}.
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> checkSensitivity() {
+        return this.checkSensitivity(true);
+    }
+
+    /**
+     * Check Sensitivity.
+     *
+     * @param value
+     *            the value
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> checkSensitivity(final boolean value) {
+        this.worker.setCheckSensitivity(value ? CheckSensitivity.ON : CheckSensitivity.OFF);
+        return this;
+    }
+
     /**
      * Check Serializable.
      *
@@ -147,6 +231,52 @@ public class JavaBeanTesterBuilder<T, E> {
         return this;
     }
 
+    /**
+     * Check Serialization Budget of a loaded instance. Fails when its serialized size or the median time of a
+     * serialization round trip is over budget, reporting the contribution of each field to the size.
+     *
+     * @param maxBytes
+     *            the max serialized bytes, not limited when zero or less
+     * @param maxNanos
+     *            the max median round trip nanos, not limited when zero or less
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> checkSerializationBudget(final long maxBytes, final long maxNanos) {
+        this.worker.setSerializationBudget(new SerializationBudget(maxBytes, maxNanos));
+        return this;
+    }
+
+    /**
+     * Clock used to build time based values: {@link java.util.Date}, {@link java.time.Instant},
+     * {@link java.time.LocalDate}, {@link java.time.LocalDateTime}, {@link java.time.LocalTime},
+     * {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime}, in the zone of the clock. Defaults to
+     * {@link ValueBuilder#DEFAULT_CLOCK}.
+     *
+     * @param clock
+     *            the clock
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> clock(final Clock clock) {
+        this.worker.setClock(clock);
+        return this;
+    }
+
+    /**
+     * Listener receiving the start and end of each phase of the test, with its elapsed nanos and allocated bytes.
+     * Listeners registered through {@link java.util.ServiceLoader} receive the phases of every test.
+     *
+     * @param listener
+     *            the listener
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> listener(final BeanTestListener listener) {
+        this.worker.getListeners().add(listener);
+        return this;
+    }
+
     /**
      * Load data.
      *
@@ -169,6 +299,54 @@ public class JavaBeanTesterBuilder<T, E> {
         return this;
     }
 
+    /**
+     * Parallel properties tests the properties of wide beans concurrently, each on its own instance. Writes to the
+     * instance passed to {@link #testInstance(Object)} and failures stay in property order.
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> parallelProperties() {
+        return this.parallelProperties(true);
+    }
+
+    /**
+     * Parallel properties.
+     *
+     * @param value
+     *            the value
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> parallelProperties(final boolean value) {
+        this.worker.setParallelProperties(value ? ParallelProperties.ON : ParallelProperties.OFF);
+        return this;
+    }
+
+    /**
+     * Profile Object Methods measures equals, hashCode and toString as the collections, maps, arrays and nested beans
+     * of the instance grow, failing when hashCode or toString grows faster than n^1.5 in the number of values.
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> profileObjectMethods() {
+        return this.profileObjectMethods(0);
+    }
+
+    /**
+     * Profile Object Methods measures equals, hashCode and toString as the collections, maps, arrays and nested beans
+     * of the instance grow, failing when hashCode or toString grows faster than n^1.5 in the number of values or any of
+     * them allocates over the threshold.
+     *
+     * @param maxBytesPerCall
+     *            the max bytes allocated per call, not limited when zero or less
+     *
+     * @return the java bean tester builder
+     */
+    public JavaBeanTesterBuilder<T, E> profileObjectMethods(final long maxBytesPerCall) {
+        this.worker.setObjectMethodsProfile(new ObjectMethodsProfile(maxBytesPerCall));
+        return this;
+    }
+
     /**
      * Skip Strict Serializable is intended to relax strict check on serializable objects. For complex objects, strict
      * checking will result in issues with equals check. Testing has shown this to be generally not a normal use case of
@@ -197,6 +375,25 @@ public class JavaBeanTesterBuilder<T, E> {
         return this;
     }
 
+    /**
+     * Dynamic tests holding one test per phase of {@link #test()}, for use from a JUnit test factory. Phases run and
+     * report on their own so a failure does not hide later phases.
+     *
+     * @return the dynamic container of the class under test
+     */
+    public DynamicContainer dynamicTests() {
+        return DynamicContainer.dynamicContainer(this.worker.getClazz().getName(), this.worker.dynamicTests());
+    }
+
+    /**
+     * Worker holding the configuration.
+     *
+     * @return the java bean tester worker
+     */
+    JavaBeanTesterWorker<T, E> worker() {
+        return this.worker;
+    }
+
     /**
      * Test.
      */
@@ -14,43 +14,52 @@
  */
 package com.codebox.bean;
 
+import com.codebox.bean.BeanMetadata.BeanProperty;
+import com.codebox.bean.LifecycleIndex.LifecycleMethod;
+import com.codebox.builders.HiddenClasses;
+import com.codebox.enums.BeanTestPhase;
 import com.codebox.enums.CheckClear;
 import com.codebox.enums.CheckConstructor;
 import com.codebox.enums.CheckEquals;
+import com.codebox.enums.CheckSensitivity;
 import com.codebox.enums.CheckSerialize;
 import com.codebox.enums.LoadData;
 import com.codebox.enums.LoadType;
+import com.codebox.enums.ParallelProperties;
 import com.codebox.enums.SkipStrictSerialize;
+import com.codebox.events.BeanTestEvent;
 import com.codebox.instance.ClassInstance;
 
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import lombok.Data;
 
 import net.sf.cglib.beans.BeanCopier;
 
-import nl.jqno.equalsverifier.EqualsVerifier;
-
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +77,9 @@ class JavaBeanTesterWorker<T, E> {
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(JavaBeanTesterWorker.class);
 
+    /** The Constant STREAM_HEADER_SIZE, the stream magic and version written by each object output stream. */
+    private static final int STREAM_HEADER_SIZE = 4;
+
     /** The check clear. */
     private CheckClear checkClear;
 
@@ -77,6 +89,9 @@ class JavaBeanTesterWorker<T, E> {
     /** The check equals. */
     private CheckEquals checkEquals;
 
+    /** The check sensitivity. */
+    private CheckSensitivity checkSensitivity;
+
     /** The check serializable. */
     private CheckSerialize checkSerializable;
 
@@ -95,6 +110,27 @@ class JavaBeanTesterWorker<T, E> {
     /** The skip these. */
     private Set<String> skipThese = new HashSet<>();
 
+    /** The serialization budget, null when not checked. */
+    private SerializationBudget serializationBudget;
+
+    /** The accessor benchmark, null when not run. */
+    private AccessorBenchmark accessorBenchmark;
+
+    /** The hash distribution, null when not checked. */
+    private HashDistribution hashDistribution;
+
+    /** The object methods profile, null when not run. */
+    private ObjectMethodsProfile objectMethodsProfile;
+
+    /** The parallel properties. */
+    private ParallelProperties parallelProperties;
+
+    /** The clock used for time based values. */
+    private Clock clock = ValueBuilder.DEFAULT_CLOCK;
+
+    /** The listeners registered on the builder, in addition to the global listeners. */
+    private List<BeanTestListener> listeners = new ArrayList<>();
+
     /**
      * Instantiates a new java bean tester worker.
      *
@@ -147,33 +183,144 @@ class JavaBeanTesterWorker<T, E> {
         return worker;
     }
 
+    /**
+     * Populate the instance using the load data and clock of this worker.
+     *
+     * @param <L>
+     *            the type parameter associated with the class under test.
+     * @param type
+     *            the class under test.
+     * @param instance
+     *            the instance of class under test.
+     */
+    private <L> void populate(final Class<L> type, final L instance) {
+        final JavaBeanTesterWorker<L, Object> worker = new JavaBeanTesterWorker<>(type);
+        worker.setLoadData(this.loadData);
+        worker.setClock(this.clock);
+        worker.getterSetterTests(instance);
+    }
+
     /**
      * Tests the clear, get, set, equals, hashCode, toString, serializable, and constructor(s) methods of the specified
      * class.
      */
     public void test() {
+        final BeanTestEvent event = new BeanTestEvent();
+        event.begin();
+        boolean passed = false;
+        try {
+            this.testPhases();
+            passed = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setBeanClass(this.clazz.getName());
+                event.setPassed(passed);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Test the phases in order.
+     */
+    private void testPhases() {
 
         // Test Getter/Setter
-        this.getterSetterTests(new ClassInstance<T>().newInstance(this.clazz));
+        this.phase(BeanTestPhase.GETTER_SETTER,
+                () -> this.getterSetterTests(new ClassInstance<T>().newInstance(this.clazz)));
 
         // Test Clear
         if (this.checkClear != CheckClear.OFF) {
-            this.clearTest();
+            this.phase(BeanTestPhase.CLEAR, this::clearTest);
         }
 
         // Test constructor
         if (this.checkConstructor != CheckConstructor.OFF) {
-            this.constructorsTest();
+            this.phase(BeanTestPhase.CONSTRUCTORS, this::constructorsTest);
         }
 
         // Test Serializable (internally uses on/off/strict checks)
-        this.checkSerializableTest();
+        this.phase(BeanTestPhase.SERIALIZABLE, this::checkSerializableTest);
+
+        // Test Serialization Budget
+        if (this.serializationBudget != null) {
+            this.phase(BeanTestPhase.SERIALIZATION_BUDGET, this::serializationBudgetTest);
+        }
+
+        // Test Accessor Benchmark
+        if (this.accessorBenchmark != null) {
+            this.phase(BeanTestPhase.ACCESSOR_BENCHMARK, this::accessorBenchmarkTest);
+        }
+
+        // Test Hash Distribution
+        if (this.hashDistribution != null) {
+            this.phase(BeanTestPhase.HASH_DISTRIBUTION, this::hashDistributionTest);
+        }
 
         // Test Equals
         if (this.checkEquals == CheckEquals.ON) {
-            this.equalsHashCodeToStringSymmetricTest();
+            this.phase(BeanTestPhase.EQUALS, this::equalsHashCodeToStringSymmetricTest);
+        }
+
+        // Test Object Methods Profile
+        if (this.objectMethodsProfile != null) {
+            this.phase(BeanTestPhase.OBJECT_METHODS_PROFILE, this::objectMethodsProfileTest);
+        }
+
+    }
+
+    /**
+     * Dynamic tests for the phases of {@link #test()}, so each phase runs and reports on its own.
+     *
+     * @return the dynamic tests
+     */
+    List<DynamicTest> dynamicTests() {
+        final List<DynamicTest> tests = new ArrayList<>();
+        tests.add(DynamicTest.dynamicTest("getter/setter", () -> this.phase(BeanTestPhase.GETTER_SETTER,
+                () -> this.getterSetterTests(new ClassInstance<T>().newInstance(this.clazz)))));
+        if (this.checkClear != CheckClear.OFF) {
+            tests.add(DynamicTest.dynamicTest("clear", () -> this.phase(BeanTestPhase.CLEAR, this::clearTest)));
+        }
+        if (this.checkConstructor != CheckConstructor.OFF) {
+            tests.add(DynamicTest.dynamicTest("constructor",
+                    () -> this.phase(BeanTestPhase.CONSTRUCTORS, this::constructorsTest)));
+        }
+        tests.add(DynamicTest.dynamicTest("serializable",
+                () -> this.phase(BeanTestPhase.SERIALIZABLE, this::checkSerializableTest)));
+        if (this.serializationBudget != null) {
+            tests.add(DynamicTest.dynamicTest("serialization budget",
+                    () -> this.phase(BeanTestPhase.SERIALIZATION_BUDGET, this::serializationBudgetTest)));
+        }
+        if (this.accessorBenchmark != null) {
+            tests.add(DynamicTest.dynamicTest("accessor benchmark",
+                    () -> this.phase(BeanTestPhase.ACCESSOR_BENCHMARK, this::accessorBenchmarkTest)));
+        }
+        if (this.hashDistribution != null) {
+            tests.add(DynamicTest.dynamicTest("hash distribution",
+                    () -> this.phase(BeanTestPhase.HASH_DISTRIBUTION, this::hashDistributionTest)));
+        }
+        if (this.checkEquals == CheckEquals.ON) {
+            tests.add(DynamicTest.dynamicTest("equals",
+                    () -> this.phase(BeanTestPhase.EQUALS, this::equalsHashCodeToStringSymmetricTest)));
+        }
+        if (this.objectMethodsProfile != null) {
+            tests.add(DynamicTest.dynamicTest("object methods profile",
+                    () -> this.phase(BeanTestPhase.OBJECT_METHODS_PROFILE, this::objectMethodsProfileTest)));
         }
+        return tests;
+    }
 
+    /**
+     * Run the phase, reporting it to the listeners.
+     *
+     * @param phase
+     *            the phase
+     * @param body
+     *            the body of the phase
+     */
+    private void phase(final BeanTestPhase phase, final Runnable body) {
+        BeanTestListeners.run(this.clazz, phase, this.listeners, body);
     }
 
     /**
@@ -185,111 +332,108 @@ class JavaBeanTesterWorker<T, E> {
      * @return the ter setter tests
      */
     void getterSetterTests(final T instance) {
-        final PropertyDescriptor[] props = this.getProps(this.clazz);
-        for (final PropertyDescriptor prop : props) {
-            Method getter = prop.getReadMethod();
-            final Method setter = prop.getWriteMethod();
-
-            // Java Metro Bug Patch (Boolean Wrapper usage of 'is' possible
-            if (getter == null && setter != null) {
-                final String isBooleanWrapper = "is" + setter.getName().substring(3);
-                try {
-                    getter = this.clazz.getMethod(isBooleanWrapper);
-                } catch (NoSuchMethodException | SecurityException e) {
-                    // Do nothing
-                }
+        final List<BeanProperty> props = this.getProps(this.clazz).stream().filter(BeanProperty::isTestable)
+                .collect(Collectors.toList());
+        if (this.parallelProperties == ParallelProperties.ON && props.size() > 1) {
+            // Each property is tested on its own instance, only writes to the shared instance need ordering
+            final List<PropertyResult> results = props.parallelStream().map(this::testProperty)
+                    .collect(Collectors.toList());
+            for (final PropertyResult result : results) {
+                result.apply(instance);
             }
+        } else {
+            for (final BeanProperty prop : props) {
+                this.testProperty(prop).apply(instance);
+            }
+        }
+    }
 
-            if (getter != null && setter != null) {
-                // We have both a get and set method for this property
-                final Class<?> returnType = getter.getReturnType();
-                final Class<?>[] params = setter.getParameterTypes();
-
-                if (params.length == 1 && params[0] == returnType) {
-                    // The set method has 1 argument, which is of the same type as the return type of the get method, so
-                    // we can test this property
-                    try {
-                        // Build a value of the correct type to be passed to the set method
-                        final Object value = this.buildValue(returnType, LoadType.STANDARD_DATA);
-
-                        // Build an instance of the bean that we are testing (each property test gets a new instance)
-                        final T bean = new ClassInstance<T>().newInstance(this.clazz);
-
-                        // Call the set method, then check the same value comes back out of the get method
-                        setter.invoke(bean, value);
-
-                        // Use data set on instance
-                        setter.invoke(instance, value);
-
-                        final Object expectedValue = value;
-                        Object actualValue = getter.invoke(bean);
-
-                        // java.util.Date normalization patch
-                        //
-                        // Date is zero based so it adds 1 through normalization. Since we always pass '1' here, it is
-                        // the same as stating February. Thus we roll over the month quite often into March towards
-                        // end of the month resulting in '1' != '2' situation. The reason we pass '1' is that we are
-                        // testing the content of the object and have no idea it is a date to start with. It is simply
-                        // that it sees getters/setters and tries to load them appropriately. The underlying problem
-                        // with that is that the Date object performs normalization to avoid dates like 2-30 that do
-                        // not exist and is not a typical getter/setter use-case. It is also deprecated but we don't
-                        // want to simply skip all deprecated items as we intend to test as much as possible.
-                        //
-                        if (this.clazz == Date.class && prop.getName().equals("month")
-                                && expectedValue.equals(Integer.valueOf("1"))
-                                && actualValue.equals(Integer.valueOf("2"))) {
-                            actualValue = Integer.valueOf("1");
-                        }
+    /**
+     * Test the property on a new instance of the bean.
+     *
+     * @param prop
+     *            the property
+     *
+     * @return the property result
+     */
+    private PropertyResult testProperty(final BeanProperty prop) {
+        final PropertyAccessor accessor = prop.getAccessor();
+        final Class<?> returnType = prop.getType();
+        Object value = null;
+        boolean written = false;
+        try {
+            try {
+                // Build a value of the correct type to be passed to the set method
+                value = this.buildValue(returnType, LoadType.STANDARD_DATA, prop.getName());
+
+                // Build an instance of the bean that we are testing (each property test gets a new instance)
+                final T bean = new ClassInstance<T>().newInstance(this.clazz);
+
+                // Call the set method, then check the same value comes back out of the get method
+                accessor.set(bean, value);
+
+                // Use data set on instance
+                written = true;
+
+                final Object expectedValue = value;
+                Object actualValue = accessor.get(bean);
+
+                // java.util.Date normalization patch
+                //
+                // Date is zero based so it adds 1 through normalization. Since we always pass '1' here, it is
+                // the same as stating February. Thus we roll over the month quite often into March towards
+                // end of the month resulting in '1' != '2' situation. The reason we pass '1' is that we are
+                // testing the content of the object and have no idea it is a date to start with. It is simply
+                // that it sees getters/setters and tries to load them appropriately. The underlying problem
+                // with that is that the Date object performs normalization to avoid dates like 2-30 that do
+                // not exist and is not a typical getter/setter use-case. It is also deprecated but we don't
+                // want to simply skip all deprecated items as we intend to test as much as possible.
+                //
+                if (this.clazz == Date.class && prop.getName().equals("month")
+                        && expectedValue.equals(Integer.valueOf("1")) && actualValue.equals(Integer.valueOf("2"))) {
+                    actualValue = Integer.valueOf("1");
+                }
 
-                        Assertions.assertEquals(expectedValue, actualValue,
-                                String.format("Failed while testing property '%s' of class '%s'", prop.getName(),
-                                        this.clazz.getName()));
+                Assertions.assertEquals(expectedValue, actualValue, String.format(
+                        "Failed while testing property '%s' of class '%s'", prop.getName(), this.clazz.getName()));
 
-                    } catch (final IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                            | SecurityException e) {
-                        Assertions.fail(String.format(
-                                "An exception was thrown while testing class '%s' with the property (getter/setter) '%s': '%s'",
-                                this.clazz.getName(), prop.getName(), e.toString()));
-                    }
-                }
+            } catch (final IllegalAccessException | IllegalArgumentException | InvocationTargetException
+                    | SecurityException e) {
+                Assertions.fail(String.format(
+                        "An exception was thrown while testing class '%s' with the property (getter/setter) '%s': '%s'",
+                        this.clazz.getName(), prop.getName(), e.toString()));
             }
+        } catch (final RuntimeException | Error e) {
+            return new PropertyResult(prop, value, written, e);
         }
+        return new PropertyResult(prop, value, written, null);
     }
 
     /**
-     * Clear test.
+     * Clear test of the clear method declared by the class.
      */
     void clearTest() {
-        final Method[] methods = this.clazz.getDeclaredMethods();
-        for (final Method method : methods) {
-            if (method.getName().equals("clear")) {
-                final T newClass = new ClassInstance<T>().newInstance(this.clazz);
-                final T expectedClass = new ClassInstance<T>().newInstance(this.clazz);
-                try {
-                    // Perform any Post Construction on object without parameters
-                    List<Annotation> annotations = null;
-                    for (final Method mt : methods) {
-                        annotations = Arrays.asList(mt.getAnnotations());
-                        for (final Annotation annotation : annotations) {
-                            // XXX On purpose logic change to support both javax and jakarta namespace for annotations
-                            if ("PostConstruct".equals(annotation.annotationType().getSimpleName())
-                                    && mt.getParameterTypes().length == 0) {
-                                // Invoke method newClass
-                                mt.invoke(newClass);
-                                // Invoke method expectedClass
-                                mt.invoke(expectedClass);
-                            }
-                        }
-                    }
-                    // Invoke clear only on newClass
-                    newClass.getClass().getMethod("clear").invoke(newClass);
-                    Assertions.assertEquals(expectedClass, newClass,
-                            String.format("Clear method does not match new object '%s'", this.clazz));
-                } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                        | NoSuchMethodException | SecurityException e) {
-                    Assertions.fail(String.format("An exception was thrown while testing the Clear method '%s' : '%s'",
-                            this.clazz.getName(), e.toString()));
+        final LifecycleIndex lifecycle = LifecycleIndex.of(this.clazz);
+        final LifecycleMethod clear = lifecycle.getDeclaredClear();
+        if (clear != null) {
+            final T newClass = new ClassInstance<T>().newInstance(this.clazz);
+            final T expectedClass = new ClassInstance<T>().newInstance(this.clazz);
+            try {
+                // Perform any Post Construction on object without parameters
+                for (final LifecycleMethod postConstruct : lifecycle.getPostConstructs()) {
+                    // Invoke method newClass
+                    postConstruct.invoke(newClass);
+                    // Invoke method expectedClass
+                    postConstruct.invoke(expectedClass);
                 }
+                // Invoke clear only on newClass
+                clear.invoke(newClass);
+                Assertions.assertEquals(expectedClass, newClass,
+                        String.format("Clear method does not match new object '%s'", this.clazz));
+            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException
+                    | SecurityException e) {
+                Assertions.fail(String.format("An exception was thrown while testing the Clear method '%s' : '%s'",
+                        this.clazz.getName(), e.toString()));
             }
         }
     }
@@ -311,7 +455,7 @@ class JavaBeanTesterWorker<T, E> {
 
             // Load Data
             for (int i = 0; i < values.length; i++) {
-                values[i] = this.buildValue(types[i], LoadType.STANDARD_DATA);
+                values[i] = this.buildValue(types[i], LoadType.STANDARD_DATA, null);
             }
 
             try {
@@ -332,6 +476,14 @@ class JavaBeanTesterWorker<T, E> {
     void checkSerializableTest() {
         final T object = new ClassInstance<T>().newInstance(this.clazz);
         if (this.implementsSerializable(object)) {
+            // When specifically checking, also report fields the round trip misses as they are null
+            if (this.checkSerializable == CheckSerialize.ON) {
+                final List<String> problems = SerializableGraph.problems(object.getClass());
+                if (!problems.isEmpty()) {
+                    Assertions.fail(String.format("Class '%s' has fields that are not serializable: %s",
+                            object.getClass().getName(), String.join(", ", problems)));
+                }
+            }
             final T newObject = this.canSerialize(object);
             // Toggle to throw or not throw error with only one way working
             if (this.skipStrictSerializable != SkipStrictSerialize.ON) {
@@ -348,6 +500,281 @@ class JavaBeanTesterWorker<T, E> {
         }
     }
 
+    /**
+     * Serialization budget test, measuring a loaded instance. The round trip through {@link #canSerialize(Object)} is
+     * warmed up and then timed repeatedly, failing when the size or the median time is over budget.
+     */
+    void serializationBudgetTest() {
+        final T object = new ClassInstance<T>().newInstance(this.clazz);
+        if (!this.implementsSerializable(object)) {
+            Assertions.fail(String.format("Class is not serializable '%s'", object.getClass().getName()));
+        }
+        this.populate(this.clazz, object);
+
+        final int bytes = JavaBeanTesterWorker.serializedSize(object);
+        if (this.serializationBudget.isOverBytes(bytes)) {
+            Assertions.fail(String.format("Serialized size of class '%s' is %d bytes, over budget of %d bytes: %s",
+                    this.clazz.getName(), bytes, this.serializationBudget.getMaxBytes(),
+                    JavaBeanTesterWorker.fieldContributions(object)));
+        }
+
+        final Measurement.Cost roundTrip = Measurement.measure(ops -> {
+            for (long i = 0; i < ops; i++) {
+                this.canSerialize(object);
+            }
+        }, SerializationBudget.WARMUP_ITERATIONS, 1, SerializationBudget.MEASURED_ITERATIONS);
+        final long median = (long) roundTrip.getNanosPerOp();
+        if (this.serializationBudget.isOverNanos(median)) {
+            Assertions.fail(String.format(
+                    "Median serialization round trip of class '%s' is %d ns, over budget of %d ns (%d bytes): %s",
+                    this.clazz.getName(), median, this.serializationBudget.getMaxNanos(), bytes,
+                    JavaBeanTesterWorker.fieldContributions(object)));
+        }
+    }
+
+    /**
+     * Accessor Benchmark Test measures each getter and setter on a loaded instance, reporting the cost of each and
+     * failing when any is over the thresholds.
+     *
+     * @return the getter and setter costs by testable property
+     */
+    Map<String, List<Measurement.Cost>> accessorBenchmarkTest() {
+        final T bean = new ClassInstance<T>().newInstance(this.clazz);
+        this.populate(this.clazz, bean);
+
+        final Map<String, List<Measurement.Cost>> costs = new LinkedHashMap<>();
+        final List<String> over = new ArrayList<>();
+        for (final BeanProperty prop : this.getProps(this.clazz)) {
+            if (!prop.isTestable()) {
+                continue;
+            }
+            final PropertyAccessor accessor = prop.getAccessor();
+            try {
+                final Object value = accessor.get(bean);
+                final Measurement.Cost getter = AccessorBenchmark.getter(accessor, bean, prop.getType(), value);
+                final Measurement.Cost setter = AccessorBenchmark.setter(accessor, bean, value);
+                costs.put(prop.getName(), Arrays.asList(getter, setter));
+                if (this.accessorBenchmark.isOver(getter)) {
+                    over.add(String.format("get %s %s", prop.getName(), getter));
+                }
+                if (this.accessorBenchmark.isOver(setter)) {
+                    over.add(String.format("set %s %s", prop.getName(), setter));
+                }
+            } catch (final ReflectiveOperationException e) {
+                Assertions.fail(String.format("An exception was thrown while benchmarking the property '%s' : '%s'",
+                        prop.getName(), e.toString()));
+            }
+        }
+
+        JavaBeanTesterWorker.LOGGER.info("Accessor benchmark of class '{}': {}", this.clazz.getName(), costs);
+        if (!over.isEmpty()) {
+            Assertions.fail(String.format("Accessors of class '%s' are over budget of %d ns/op and %d B/op: %s",
+                    this.clazz.getName(), this.accessorBenchmark.getMaxNanos(), this.accessorBenchmark.getMaxBytes(),
+                    over));
+        }
+        return costs;
+    }
+
+    /**
+     * Hash Distribution Test places distinct instances with varying property values in the buckets of a
+     * {@link java.util.HashMap} sized for them, failing when they collide more than the max ratio over uniform hashing.
+     * Nested beans are not loaded, as only the hash codes of the instances matter.
+     */
+    void hashDistributionTest() {
+        final SeededValueBuilder valueBuilder = new SeededValueBuilder(HashDistribution.SEED,
+                this.hashDistribution.getSampleSize());
+        valueBuilder.setLoadData(LoadData.OFF);
+        valueBuilder.setClock(this.clock);
+
+        final List<BeanProperty> props = this.getProps(this.clazz).stream().filter(BeanProperty::isTestable)
+                .collect(Collectors.toList());
+        final Set<Object> instances = new HashSet<>();
+        for (int i = 0; i < this.hashDistribution.getSampleSize(); i++) {
+            final T bean = new ClassInstance<T>().newInstance(this.clazz);
+            for (final BeanProperty prop : props) {
+                try {
+                    prop.getAccessor().set(bean,
+                            valueBuilder.buildValue(prop.getType(), LoadType.STANDARD_DATA, prop.getName()));
+                } catch (final IllegalAccessException | InvocationTargetException e) {
+                    Assertions.fail(String.format("An exception was thrown while varying the property '%s' : '%s'",
+                            prop.getName(), e.toString()));
+                }
+            }
+            instances.add(bean);
+        }
+
+        final HashDistribution.Statistics statistics = HashDistribution.statistics(instances);
+        JavaBeanTesterWorker.LOGGER.debug("Hash distribution of class '{}': {}", this.clazz.getName(), statistics);
+        if (this.hashDistribution.isOver(statistics)) {
+            Assertions.fail(String.format(Locale.ROOT,
+                    "Hash distribution of class '%s' is over %.2f times the collisions of uniform hashing: %s",
+                    this.clazz.getName(), this.hashDistribution.getMaxRatio(), statistics));
+        }
+    }
+
+    /**
+     * Object Methods Profile Test measures equals, hashCode and toString on equal instances whose collections, maps and
+     * arrays hold {@link ObjectMethodsProfile#SIZES} elements, then on nested beans and containers down to
+     * {@link ObjectMethodsProfile#MAX_DEPTH} at the smallest size, stopping at a point slower than
+     * {@link ObjectMethodsProfile#POINT_NANOS}. Fails when hashCode or toString grows faster than n^1.5 in the number
+     * of values, or any method allocates over budget.
+     */
+    void objectMethodsProfileTest() {
+        final List<BeanProperty> props = this.getProps(this.clazz).stream().filter(BeanProperty::isTestable)
+                .collect(Collectors.toList());
+        final ObjectMethodsProfile.Result result = new ObjectMethodsProfile.Result();
+        for (final int size : ObjectMethodsProfile.SIZES) {
+            if (!this.profile(result, props, size, 1)) {
+                break;
+            }
+        }
+        for (int depth = 2; depth <= ObjectMethodsProfile.MAX_DEPTH; depth++) {
+            if (!this.profile(result, props, ObjectMethodsProfile.SIZES[0], depth)) {
+                break;
+            }
+        }
+
+        final List<String> flags = this.objectMethodsProfile.flags(result);
+        JavaBeanTesterWorker.LOGGER.info("Object methods profile of class '{}': {}", this.clazz.getName(), result);
+        if (!flags.isEmpty()) {
+            Assertions.fail(String.format("Object methods of class '%s' are over budget %s:%s", this.clazz.getName(),
+                    flags, result));
+        }
+    }
+
+    /**
+     * Profile the object methods of equal instances sized and nested by the builder.
+     *
+     * @param result
+     *            the result
+     * @param props
+     *            the testable properties
+     * @param size
+     *            the size of collections, maps and arrays
+     * @param depth
+     *            the depth of nested beans and containers
+     *
+     * @return true, if the point was quick enough to profile a larger graph
+     */
+    private boolean profile(final ObjectMethodsProfile.Result result, final List<BeanProperty> props, final int size,
+            final int depth) {
+        final T x = new ClassInstance<T>().newInstance(this.clazz);
+        final T y = new ClassInstance<T>().newInstance(this.clazz);
+        final SizedValueBuilder xBuilder = new SizedValueBuilder(size, depth);
+        final SizedValueBuilder yBuilder = new SizedValueBuilder(size, depth);
+        xBuilder.setClock(this.clock);
+        yBuilder.setClock(this.clock);
+        for (final BeanProperty prop : props) {
+            xBuilder.set(prop, x, 1);
+            yBuilder.set(prop, y, 1);
+        }
+        return result.measure(size, depth, xBuilder.getNodes(), x, y);
+    }
+
+    /**
+     * Serialized size of the object.
+     *
+     * @param object
+     *            the object
+     *
+     * @return the size in bytes
+     */
+    static int serializedSize(final Object object) {
+        final SerializationBuffer buffer = SerializationBuffer.acquire();
+        try (ObjectOutputStream output = new ObjectOutputStream(buffer)) {
+            output.writeObject(object);
+            output.flush();
+            return buffer.size();
+        } catch (final IOException e) {
+            Assertions.fail(String.format("An exception was thrown while serializing the class '%s': '%s',",
+                    object.getClass().getName(), e.toString()));
+            return 0;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Contribution of each serialized field to the serialized size, largest first. Objects are measured on their own so
+     * shared references count in each field holding them, primitives count their size. Fields of super classes that are
+     * not serializable are not written, so are skipped, and values that cannot be serialized on their own are reported
+     * as unmeasurable.
+     *
+     * @param object
+     *            the object
+     *
+     * @return the field contributions
+     */
+    static String fieldContributions(final Object object) {
+        final Map<String, Integer> contributions = new LinkedHashMap<>();
+        for (Class<?> type = object.getClass(); type != null
+                && Serializable.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            for (final Field field : type.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                    continue;
+                }
+                if (field.getType().isPrimitive()) {
+                    contributions.put(field.getName(), JavaBeanTesterWorker.primitiveSize(field.getType()));
+                } else if (field.trySetAccessible()) {
+                    try {
+                        final Object value = field.get(object);
+                        contributions.put(field.getName(),
+                                value == null ? 1 : JavaBeanTesterWorker.standaloneSize(value));
+                    } catch (final IllegalAccessException e) {
+                        JavaBeanTesterWorker.LOGGER.trace("Unable to read field '{}'", field.getName(), e);
+                    }
+                }
+            }
+        }
+        return contributions.entrySet().stream().sorted(Map.Entry.<String, Integer> comparingByValue().reversed())
+                .map(entry -> entry.getKey() + "=" + (entry.getValue() < 0 ? "unmeasurable" : entry.getValue()))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Serialized size of the value on its own, without the stream header.
+     *
+     * @param value
+     *            the value
+     *
+     * @return the size in bytes, or -1 when the value cannot be serialized on its own
+     */
+    private static int standaloneSize(final Object value) {
+        final SerializationBuffer buffer = SerializationBuffer.acquire();
+        try (ObjectOutputStream output = new ObjectOutputStream(buffer)) {
+            output.writeObject(value);
+            output.flush();
+            return buffer.size() - JavaBeanTesterWorker.STREAM_HEADER_SIZE;
+        } catch (final IOException e) {
+            JavaBeanTesterWorker.LOGGER.trace("Unable to serialize value of class '{}'", value.getClass().getName(), e);
+            return -1;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Primitive size.
+     *
+     * @param type
+     *            the primitive type
+     *
+     * @return the size in bytes
+     */
+    private static int primitiveSize(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return Long.BYTES;
+        }
+        if (type == int.class || type == float.class) {
+            return Integer.BYTES;
+        }
+        if (type == short.class || type == char.class) {
+            return Short.BYTES;
+        }
+        return Byte.BYTES;
+    }
+
     /**
      * Implements serializable.
      *
@@ -370,25 +797,28 @@ class JavaBeanTesterWorker<T, E> {
      */
     @SuppressWarnings("unchecked")
     T canSerialize(final T object) {
-        // Serialize data
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final SerializationBuffer buffer = SerializationBuffer.acquire();
         try {
-            new ObjectOutputStream(baos).writeObject(object);
-        } catch (final IOException e) {
-            Assertions.fail(String.format("An exception was thrown while serializing the class '%s': '%s',",
-                    object.getClass().getName(), e.toString()));
-            return null;
-        }
+            // Serialize data
+            try (ObjectOutputStream output = new ObjectOutputStream(buffer)) {
+                output.writeObject(object);
+            } catch (final IOException e) {
+                Assertions.fail(String.format("An exception was thrown while serializing the class '%s': '%s',",
+                        object.getClass().getName(), e.toString()));
+                return null;
+            }
 
-        // Deserialize Data
-        final ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
-        try {
-            return (T) new ObjectInputStream(bais).readObject();
-        } catch (final ClassNotFoundException | IOException e) {
-            Assertions.fail(String.format("An exception was thrown while deserializing the class '%s': '%s',",
-                    object.getClass().getName(), e.toString()));
+            // Deserialize Data, reading the written bytes in place
+            try (ObjectInputStream input = new ObjectInputStream(buffer.toInputStream())) {
+                return (T) input.readObject();
+            } catch (final ClassNotFoundException | IOException e) {
+                Assertions.fail(String.format("An exception was thrown while deserializing the class '%s': '%s',",
+                        object.getClass().getName(), e.toString()));
+            }
+            return null;
+        } finally {
+            buffer.release();
         }
-        return null;
     }
 
     /**
@@ -400,13 +830,25 @@ class JavaBeanTesterWorker<T, E> {
      *            the return type
      * @param loadType
      *            the load type
+     * @param property
+     *            the property the value is built for, null when none
      *
      * @return the object
      */
-    private <R> Object buildValue(final Class<R> returnType, final LoadType loadType) {
+    private <R> Object buildValue(final Class<R> returnType, final LoadType loadType, final String property) {
+        return this.newValueBuilder().buildValue(returnType, loadType, property);
+    }
+
+    /**
+     * New value builder configured by this worker.
+     *
+     * @return the value builder
+     */
+    private ValueBuilder newValueBuilder() {
         final ValueBuilder valueBuilder = new ValueBuilder();
         valueBuilder.setLoadData(this.loadData);
-        return valueBuilder.buildValue(returnType, loadType);
+        valueBuilder.setClock(this.clock);
+        return valueBuilder;
     }
 
     /**
@@ -414,11 +856,8 @@ class JavaBeanTesterWorker<T, E> {
      */
     public void equalsHashCodeToStringSymmetricTest() {
         // Run Equals Verifier
-        try {
-            EqualsVerifier.simple().forClass(this.clazz).verify();
-        } catch (AssertionError e) {
-            JavaBeanTesterWorker.LOGGER.warn("EqualsVerifier attempt failed: {}", e.getMessage());
-        }
+        ObjectMethodsCache.equalsVerifierFailure(this.clazz)
+                .ifPresent(e -> JavaBeanTesterWorker.LOGGER.warn("EqualsVerifier attempt failed: {}", e.getMessage()));
 
         // Create Instances
         final T x = new ClassInstance<T>().newInstance(this.clazz);
@@ -474,10 +913,10 @@ class JavaBeanTesterWorker<T, E> {
         // If so, load the classes and re-test
         if (this.classHasSetters(this.clazz)) {
             // Populate Side X
-            JavaBeanTesterWorker.load(this.clazz, x, this.loadData);
+            this.populate(this.clazz, x);
 
             // Populate Extension Side Ext
-            JavaBeanTesterWorker.load(this.extension, ext, this.loadData);
+            this.populate(this.extension, ext);
 
             // ReTest Equals (flip)
             Assertions.assertNotEquals(y, x,
@@ -490,7 +929,7 @@ class JavaBeanTesterWorker<T, E> {
                             this.extension.getName(), this.clazz.getName()));
 
             // Populate Size Y
-            JavaBeanTesterWorker.load(this.clazz, y, this.loadData);
+            this.populate(this.clazz, y);
 
             // ReTest Equals and HashCode
             if (this.loadData == LoadData.ON) {
@@ -500,6 +939,11 @@ class JavaBeanTesterWorker<T, E> {
                 Assertions.assertEquals(x.hashCode(), y.hashCode(),
                         String.format(".hashCode() should be equal for two instances of type %s with loaded data",
                                 this.clazz.getName()));
+
+                // Test Sensitivity of equals and hashCode to each property
+                if (this.checkSensitivity == CheckSensitivity.ON) {
+                    this.equalsTests(x, y);
+                }
             } else {
                 Assertions.assertNotEquals(x, y);
                 Assertions.assertNotEquals(x.hashCode(), y.hashCode());
@@ -520,36 +964,47 @@ class JavaBeanTesterWorker<T, E> {
         }
 
         // Create Immutable Instance
-        try {
-            final BeanCopier clazzBeanCopier = BeanCopier.create(this.clazz, this.clazz, true);
-            final T e = new ClassInstance<T>().newInstance(this.clazz);
-            clazzBeanCopier.copy(x, e, null);
-            Assertions.assertEquals(e, x);
-        } catch (final Exception e) {
-            JavaBeanTesterWorker.LOGGER.trace("Do nothing class is not mutable", e);
+        final Optional<BeanCopier> clazzBeanCopier = ObjectMethodsCache.copier(this.clazz);
+        if (clazzBeanCopier.isPresent()) {
+            try {
+                final T e = new ClassInstance<T>().newInstance(this.clazz);
+                clazzBeanCopier.get().copy(x, e, null);
+                Assertions.assertEquals(e, x);
+            } catch (final Exception e) {
+                JavaBeanTesterWorker.LOGGER.trace("Do nothing class is not mutable", e);
+            }
         }
 
-        // Create Extension Immutable Instance
-        try {
-            final BeanCopier extensionBeanCopier = BeanCopier.create(this.extension, this.extension, true);
-            final E e = new ClassInstance<E>().newInstance(this.extension);
-            extensionBeanCopier.copy(ext, e, null);
-            Assertions.assertEquals(e, ext);
-        } catch (final Exception e) {
-            JavaBeanTesterWorker.LOGGER.trace("Do nothing class is not mutable", e);
+        // Create Extension Immutable Instance (hidden extensions cannot be referenced by a generated bean copier)
+        if (HiddenClasses.isHidden(this.extension)) {
+            return;
+        }
+        final Optional<BeanCopier> extensionBeanCopier = ObjectMethodsCache.copier(this.extension);
+        if (extensionBeanCopier.isPresent()) {
+            try {
+                final E e = new ClassInstance<E>().newInstance(this.extension);
+                extensionBeanCopier.get().copy(ext, e, null);
+                Assertions.assertEquals(e, ext);
+            } catch (final Exception e) {
+                JavaBeanTesterWorker.LOGGER.trace("Do nothing class is not mutable", e);
+            }
         }
     }
 
     /**
      * Equals Tests will traverse one object changing values until all have been tested against another object. This is
-     * done to effectively test all paths through equals.
+     * done to effectively test all paths through equals. Whether each change changes equals is recorded in a
+     * sensitivity matrix. When sensitivity is checked, whether it changes hashCode is recorded too and the test fails
+     * when the matrix is flagged.
      *
      * @param instance
      *            the class instance under test.
      * @param expected
      *            the instance expected for tests.
+     *
+     * @return the sensitivity matrix
      */
-    void equalsTests(final T instance, final T expected) {
+    SensitivityMatrix equalsTests(final T instance, final T expected) {
 
         // Perform hashCode test dependent on data coming in
         // Assert.assertEquals(expected.hashCode(), instance.hashCode());
@@ -559,74 +1014,73 @@ class JavaBeanTesterWorker<T, E> {
             Assertions.assertNotEquals(expected.hashCode(), instance.hashCode());
         }
 
-        final ValueBuilder valueBuilder = new ValueBuilder();
-        valueBuilder.setLoadData(this.loadData);
+        // Changes to equals can only be seen from instances equal to begin with
+        final boolean equalBefore = instance.equals(expected);
+        // hashCode of mutated instances is only called when sensitivity is checked
+        final boolean recordHashCode = this.checkSensitivity == CheckSensitivity.ON;
+        final int hashCodeBefore = recordHashCode ? instance.hashCode() : 0;
+        final SensitivityMatrix matrix = new SensitivityMatrix(this.clazz.getName());
 
-        final PropertyDescriptor[] props = this.getProps(instance.getClass());
-        for (final PropertyDescriptor prop : props) {
-            Method getter = prop.getReadMethod();
-            final Method setter = prop.getWriteMethod();
+        final ValueBuilder valueBuilder = this.newValueBuilder();
 
-            // Java Metro Bug Patch (Boolean Wrapper usage of 'is' possible
-            if (getter == null && setter != null) {
-                final String isBooleanWrapper = "is" + setter.getName().substring(3);
+        for (final BeanProperty prop : this.getProps(instance.getClass())) {
+            if (prop.isTestable()) {
+                final PropertyAccessor accessor = prop.getAccessor();
+                final Class<?> returnType = prop.getType();
                 try {
-                    getter = this.clazz.getMethod(isBooleanWrapper);
-                } catch (NoSuchMethodException | SecurityException e) {
-                    // Do nothing
-                }
-            }
-
-            if (getter != null && setter != null) {
-                // We have both a get and set method for this property
-                final Class<?> returnType = getter.getReturnType();
-                final Class<?>[] params = setter.getParameterTypes();
-
-                if (params.length == 1 && params[0] == returnType) {
-                    // The set method has 1 argument, which is of the same type as the return type of the get method, so
-                    // we can test this property
-                    try {
-                        // Save original value
-                        final Object original = getter.invoke(instance);
-
-                        // Build a value of the correct type to be passed to the set method using alternate test
-                        Object value = valueBuilder.buildValue(returnType, LoadType.ALTERNATE_DATA);
+                    // Save original value
+                    final Object original = accessor.get(instance);
+
+                    boolean valueChanged = false;
+                    boolean equalsChanged = false;
+                    boolean hashCodeChanged = false;
+                    boolean contractViolated = false;
+                    for (final LoadType loadType : new LoadType[] { LoadType.ALTERNATE_DATA, LoadType.NULL_DATA }) {
+                        // Build a value of the correct type to be passed to the set method
+                        final Object value = valueBuilder.buildValue(returnType, loadType, prop.getName());
 
                         // Call the set method, then check the same value comes back out of the get method
-                        setter.invoke(instance, value);
+                        accessor.set(instance, value);
 
                         // Check equals depending on data
-                        if (instance.equals(expected)) {
+                        final boolean equal = instance.equals(expected);
+                        if (equal) {
                             Assertions.assertEquals(expected, instance);
                         } else {
                             Assertions.assertNotEquals(expected, instance);
                         }
 
-                        // Build a value of the correct type to be passed to the set method using null test
-                        value = valueBuilder.buildValue(returnType, LoadType.NULL_DATA);
-
-                        // Call the set method, then check the same value comes back out of the get method
-                        setter.invoke(instance, value);
-
-                        // Check equals depending on data
-                        if (instance.equals(expected)) {
-                            Assertions.assertEquals(expected, instance);
-                        } else {
-                            Assertions.assertNotEquals(expected, instance);
+                        // Record sensitivity
+                        valueChanged |= !Objects.equals(value, original);
+                        equalsChanged |= equalBefore && !equal;
+                        if (recordHashCode) {
+                            final int hashCode = instance.hashCode();
+                            hashCodeChanged |= hashCode != hashCodeBefore;
+                            contractViolated |= equal && hashCode != expected.hashCode();
                         }
+                    }
+                    matrix.record(prop.getName(), valueChanged && equalBefore ? Boolean.valueOf(equalsChanged) : null,
+                            valueChanged && recordHashCode ? Boolean.valueOf(hashCodeChanged) : null, contractViolated);
 
-                        // Reset to original value
-                        setter.invoke(instance, original);
+                    // Reset to original value
+                    accessor.set(instance, original);
 
-                    } catch (final IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                            | SecurityException e) {
-                        Assertions.fail(
-                                String.format("An exception was thrown while testing the property (equals) '%s': '%s'",
-                                        prop.getName(), e.toString()));
-                    }
+                } catch (final IllegalAccessException | IllegalArgumentException | InvocationTargetException
+                        | SecurityException e) {
+                    Assertions.fail(
+                            String.format("An exception was thrown while testing the property (equals) '%s': '%s'",
+                                    prop.getName(), e.toString()));
                 }
             }
         }
+
+        JavaBeanTesterWorker.LOGGER.debug("Equals and hashCode sensitivity of {}", matrix);
+        if (this.checkSensitivity == CheckSensitivity.ON && matrix.isFlagged()) {
+            Assertions.fail(String.format(
+                    "Equals and hashCode of class '%s' have collision magnets %s and contract violations %s:%n%s",
+                    this.clazz.getName(), matrix.getCollisionMagnets(), matrix.getContractViolations(), matrix));
+        }
+        return matrix;
     }
 
     /**
@@ -638,38 +1092,100 @@ class JavaBeanTesterWorker<T, E> {
      * @return true, if successful
      */
     private boolean classHasSetters(final Class<T> clazz) {
-        return Arrays.stream(this.getProps(clazz))
-                .anyMatch(propertyDescriptor -> propertyDescriptor.getWriteMethod() != null);
+        return this.getProps(clazz).stream().anyMatch(BeanProperty::hasSetter);
     }
 
     /**
-     * Gets the props.
+     * Gets the props, excluding any properties that should not be tested.
      *
      * @param clazz
      *            the clazz
      *
      * @return the props
      */
-    private PropertyDescriptor[] getProps(final Class<?> clazz) {
-        try {
-            final List<PropertyDescriptor> usedProps = new ArrayList<>(
-                    Introspector.getBeanInfo(clazz).getPropertyDescriptors().length);
-            final List<PropertyDescriptor> props = Arrays
-                    .asList(Introspector.getBeanInfo(clazz).getPropertyDescriptors());
-            nextProp: for (final PropertyDescriptor prop : props) {
-                // Check the list of properties that we don't want to test
-                for (final String skipThis : this.skipThese) {
-                    if (skipThis.equals(prop.getName())) {
-                        continue nextProp;
-                    }
-                }
+    private List<BeanProperty> getProps(final Class<?> clazz) {
+        final BeanMetadata metadata = BeanMetadata.of(clazz);
+        if (metadata.getIntrospectionFailure() != null) {
+            Assertions.fail(String.format("An exception was thrown while testing class '%s': '%s'",
+                    this.clazz.getName(), metadata.getIntrospectionFailure().toString()));
+            return Collections.emptyList();
+        }
+        if (this.skipThese.isEmpty()) {
+            return metadata.getProperties();
+        }
+        final List<BeanProperty> usedProps = new ArrayList<>(metadata.getProperties().size());
+        for (final BeanProperty prop : metadata.getProperties()) {
+            // Check the list of properties that we don't want to test
+            if (!this.skipThese.contains(prop.getName())) {
                 usedProps.add(prop);
             }
-            return usedProps.toArray(new PropertyDescriptor[usedProps.size()]);
-        } catch (final IntrospectionException e) {
-            Assertions.fail(String.format("An exception was thrown while testing class '%s': '%s'",
-                    this.clazz.getName(), e.toString()));
-            return new PropertyDescriptor[0];
+        }
+        return usedProps;
+    }
+
+    /**
+     * The Class PropertyResult is the outcome of testing a property on its own instance. It is applied to the shared
+     * instance afterwards in property order, so the shared instance sees the same writes and failures whether or not
+     * properties were tested in parallel.
+     */
+    private final class PropertyResult {
+
+        /** The property. */
+        private final BeanProperty prop;
+
+        /** The value. */
+        private final Object value;
+
+        /**
+         * The written flag, set when the value was written to the tested bean and so must be written to the instance.
+         */
+        private final boolean written;
+
+        /** The failure, null when passed. */
+        private final Throwable failure;
+
+        /**
+         * Instantiates a new property result.
+         *
+         * @param prop
+         *            the property
+         * @param value
+         *            the value
+         * @param written
+         *            the written flag
+         * @param failure
+         *            the failure
+         */
+        PropertyResult(final BeanProperty prop, final Object value, final boolean written, final Throwable failure) {
+            this.prop = prop;
+            this.value = value;
+            this.written = written;
+            this.failure = failure;
+        }
+
+        /**
+         * Apply the value to the instance, then report any failure.
+         *
+         * @param instance
+         *            the instance of class under test.
+         */
+        void apply(final T instance) {
+            if (this.written) {
+                try {
+                    this.prop.getAccessor().set(instance, this.value);
+                } catch (final IllegalAccessException | IllegalArgumentException | InvocationTargetException
+                        | SecurityException e) {
+                    Assertions.fail(String.format(
+                            "An exception was thrown while testing class '%s' with the property (getter/setter) '%s': '%s'",
+                            JavaBeanTesterWorker.this.clazz.getName(), this.prop.getName(), e.toString()));
+                }
+            }
+            if (this.failure instanceof RuntimeException) {
+                throw (RuntimeException) this.failure;
+            }
+            if (this.failure != null) {
+                throw (Error) this.failure;
+            }
         }
     }
 
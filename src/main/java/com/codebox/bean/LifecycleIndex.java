@@ -0,0 +1,224 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lifecycle Index holds the lifecycle methods of a class: its post construct methods, including those inherited from
+ * super classes, and the clear method it declares. The index is built once per class and each method is bound to an
+ * invoker up front.
+ */
+final class LifecycleIndex {
+
+    /** The Constant CACHE. */
+    private static final ClassValue<LifecycleIndex> CACHE = new ClassValue<>() {
+        @Override
+        protected LifecycleIndex computeValue(final Class<?> type) {
+            return new LifecycleIndex(type);
+        }
+    };
+
+    /** The post construct methods, super class methods first. */
+    private final List<LifecycleMethod> postConstructs;
+
+    /** The clear method declared by the class, null when none. */
+    private final LifecycleMethod declaredClear;
+
+    /**
+     * Instantiates a new lifecycle index.
+     *
+     * @param clazz
+     *            the clazz
+     */
+    private LifecycleIndex(final Class<?> clazz) {
+        this.postConstructs = Collections.unmodifiableList(LifecycleIndex.findPostConstructs(clazz));
+
+        LifecycleMethod declared = null;
+        for (final Method method : clazz.getDeclaredMethods()) {
+            if (method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers())
+                    && "clear".equals(method.getName())) {
+                declared = new LifecycleMethod(method);
+            }
+        }
+        this.declaredClear = declared;
+    }
+
+    /**
+     * Gets the cached lifecycle index of the class.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the lifecycle index
+     */
+    static LifecycleIndex of(final Class<?> clazz) {
+        return LifecycleIndex.CACHE.get(clazz);
+    }
+
+    /**
+     * Gets the zero-arg post construct methods (javax and jakarta), super class methods first.
+     *
+     * @return the post constructs
+     */
+    List<LifecycleMethod> getPostConstructs() {
+        return this.postConstructs;
+    }
+
+    /**
+     * Gets the zero-arg clear method declared by the class itself, the method tested by the clear phase.
+     *
+     * @return the declared clear, or null when the class declares none
+     */
+    LifecycleMethod getDeclaredClear() {
+        return this.declaredClear;
+    }
+
+    /**
+     * Find post constructs walking up from the class, skipping methods overridden by a more specific class.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the post constructs
+     */
+    private static List<LifecycleMethod> findPostConstructs(final Class<?> clazz) {
+        final List<LifecycleMethod> found = new ArrayList<>();
+
+        // Names of overridable methods declared by more specific classes
+        final Set<String> overridden = new HashSet<>();
+        for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+            final Set<String> declared = new HashSet<>();
+            for (final Method method : type.getDeclaredMethods()) {
+                if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                final boolean isPrivate = Modifier.isPrivate(method.getModifiers());
+                if (LifecycleIndex.isPostConstruct(method) && (isPrivate || !overridden.contains(method.getName()))) {
+                    found.add(new LifecycleMethod(method));
+                }
+                if (!isPrivate) {
+                    declared.add(method.getName());
+                }
+            }
+            overridden.addAll(declared);
+        }
+
+        // Super class methods run first
+        Collections.reverse(found);
+        return found;
+    }
+
+    /**
+     * Checks if is post construct.
+     *
+     * @param method
+     *            the method
+     *
+     * @return true, if is post construct
+     */
+    private static boolean isPostConstruct(final Method method) {
+        for (final Annotation annotation : method.getAnnotations()) {
+            // XXX On purpose logic change to support both javax and jakarta namespace for annotations
+            if ("PostConstruct".equals(annotation.annotationType().getSimpleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The Class LifecycleMethod is a zero-arg method bound to an invoker.
+     */
+    static final class LifecycleMethod {
+
+        /** The Constant INVOKER_TYPE. */
+        private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class);
+
+        /** The name. */
+        private final String name;
+
+        /** The invoker. */
+        private final MethodHandle invoker;
+
+        /** The access failure, null when the method could be bound. */
+        private final IllegalAccessException accessFailure;
+
+        /**
+         * Instantiates a new lifecycle method.
+         *
+         * @param method
+         *            the method
+         */
+        LifecycleMethod(final Method method) {
+            this.name = method.getName();
+            MethodHandle handle = null;
+            IllegalAccessException failure = null;
+            try {
+                // Lifecycle methods such as post construct are often not public
+                method.trySetAccessible();
+                handle = MethodHandles.lookup().unreflect(method).asType(LifecycleMethod.INVOKER_TYPE);
+            } catch (final IllegalAccessException | SecurityException e) {
+                failure = e instanceof IllegalAccessException ? (IllegalAccessException) e
+                        : new IllegalAccessException(e.toString());
+            }
+            this.invoker = handle;
+            this.accessFailure = failure;
+        }
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        String getName() {
+            return this.name;
+        }
+
+        /**
+         * Invoke on the bean.
+         *
+         * @param bean
+         *            the bean
+         *
+         * @throws IllegalAccessException
+         *             the illegal access exception
+         * @throws InvocationTargetException
+         *             the invocation target exception
+         */
+        void invoke(final Object bean) throws IllegalAccessException, InvocationTargetException {
+            if (this.accessFailure != null) {
+                throw this.accessFailure;
+            }
+            try {
+                this.invoker.invokeExact(bean);
+            } catch (final Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
+}
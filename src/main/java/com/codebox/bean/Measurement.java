@@ -0,0 +1,168 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Measurement is the harness shared by the budget and benchmark phases. It warms an operation up, then times a few
+ * batches of calls and reports the median time and the mean allocation per call. It is far less rigorous than JMH but
+ * fast enough to run with the other tests.
+ */
+final class Measurement {
+
+    /** The sink keeping measured results alive. */
+    private static volatile Object sink;
+
+    /**
+     * Prevent Instantiation of measurement.
+     */
+    private Measurement() {
+        // Prevent Instantiation
+    }
+
+    /**
+     * Consume the result of a measured call, so it cannot be eliminated.
+     *
+     * @param value
+     *            the value
+     */
+    static void consume(final Object value) {
+        Measurement.sink = value;
+    }
+
+    /**
+     * Measure the operation, warming up then taking the median time of the samples and the mean allocation.
+     *
+     * @param <X>
+     *            the type of exception thrown by the operation
+     * @param operation
+     *            the operation
+     * @param warmupOps
+     *            the calls made to warm up
+     * @param opsPerSample
+     *            the calls timed in each sample
+     * @param samples
+     *            the samples, odd so the median is a measurement
+     *
+     * @return the cost of one call
+     *
+     * @throws X
+     *             the exception thrown by the operation
+     */
+    static <X extends Exception> Cost measure(final Operation<X> operation, final long warmupOps,
+            final long opsPerSample, final int samples) throws X {
+        operation.run(warmupOps);
+
+        final long[] nanos = new long[samples];
+        final long allocatedBefore = BeanTestListeners.allocatedBytes();
+        for (int i = 0; i < nanos.length; i++) {
+            final long start = System.nanoTime();
+            operation.run(opsPerSample);
+            nanos[i] = System.nanoTime() - start;
+        }
+        final long allocatedAfter = BeanTestListeners.allocatedBytes();
+
+        Arrays.sort(nanos);
+        final double nanosPerOp = (double) nanos[nanos.length / 2] / opsPerSample;
+        final double bytesPerOp = allocatedBefore < 0 ? -1
+                : (double) (allocatedAfter - allocatedBefore) / (samples * opsPerSample);
+        return new Cost(nanosPerOp, bytesPerOp);
+    }
+
+    /**
+     * The Interface Operation runs the measured calls.
+     *
+     * @param <X>
+     *            the type of exception thrown
+     */
+    @FunctionalInterface
+    interface Operation<X extends Exception> {
+
+        /**
+         * Run the calls.
+         *
+         * @param ops
+         *            the number of calls
+         *
+         * @throws X
+         *             the exception thrown by a call
+         */
+        void run(long ops) throws X;
+    }
+
+    /**
+     * The Class Cost of one call.
+     */
+    static final class Cost {
+
+        /** The nanos per op. */
+        private final double nanosPerOp;
+
+        /** The bytes per op, -1 when the JVM cannot measure them. */
+        private final double bytesPerOp;
+
+        /**
+         * Instantiates a new cost.
+         *
+         * @param nanosPerOp
+         *            the nanos per op
+         * @param bytesPerOp
+         *            the bytes per op
+         */
+        Cost(final double nanosPerOp, final double bytesPerOp) {
+            this.nanosPerOp = nanosPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        /**
+         * Gets the nanos per op.
+         *
+         * @return the nanos per op
+         */
+        double getNanosPerOp() {
+            return this.nanosPerOp;
+        }
+
+        /**
+         * Gets the bytes per op.
+         *
+         * @return the bytes per op, -1 when the JVM cannot measure them
+         */
+        double getBytesPerOp() {
+            return this.bytesPerOp;
+        }
+
+        /**
+         * Cost net of the baseline, never below zero.
+         *
+         * @param baseline
+         *            the baseline
+         *
+         * @return the cost
+         */
+        Cost minus(final Cost baseline) {
+            return new Cost(Math.max(0, this.nanosPerOp - baseline.nanosPerOp),
+                    this.bytesPerOp < 0 ? -1 : Math.max(0, this.bytesPerOp - baseline.bytesPerOp));
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%.1f ns/op %.1f B/op", this.nanosPerOp, this.bytesPerOp);
+        }
+    }
+
+}
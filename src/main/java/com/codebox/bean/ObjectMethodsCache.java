@@ -0,0 +1,94 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.util.Optional;
+
+import net.sf.cglib.beans.BeanCopier;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Object Methods Cache holds the expensive results used to test equals/hashCode/toString, so testing the same class
+ * again within the JVM pays the cost once.
+ */
+final class ObjectMethodsCache {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ObjectMethodsCache.class);
+
+    /** The Constant COPIERS, empty when a copier cannot be created for the class. */
+    private static final ClassValue<Optional<BeanCopier>> COPIERS = new ClassValue<>() {
+        @Override
+        protected Optional<BeanCopier> computeValue(final Class<?> type) {
+            try {
+                return Optional.of(BeanCopier.create(type, type, true));
+            } catch (final Exception e) {
+                ObjectMethodsCache.LOGGER.trace("Do nothing class is not mutable", e);
+                return Optional.empty();
+            }
+        }
+    };
+
+    /** The Constant EQUALS_VERIFIER, holding the failure or empty when verified. */
+    private static final ClassValue<Optional<AssertionError>> EQUALS_VERIFIER = new ClassValue<>() {
+        @Override
+        protected Optional<AssertionError> computeValue(final Class<?> type) {
+            try {
+                EqualsVerifier.simple().forClass(type).verify();
+                return Optional.empty();
+            } catch (final AssertionError e) {
+                // Keep the failure itself, as its message may be null
+                return Optional.of(e);
+            }
+        }
+    };
+
+    /**
+     * Prevent Instantiation of object methods cache.
+     */
+    private ObjectMethodsCache() {
+        // Prevent Instantiation
+    }
+
+    /**
+     * Gets the bean copier of the class.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the bean copier, or empty when one cannot be created
+     */
+    static Optional<BeanCopier> copier(final Class<?> clazz) {
+        return ObjectMethodsCache.COPIERS.get(clazz);
+    }
+
+    /**
+     * Gets the equals verifier verdict of the class. The verification only depends on the class, so it is shared by all
+     * builder configurations.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the failure, or empty when verified
+     */
+    static Optional<AssertionError> equalsVerifierFailure(final Class<?> clazz) {
+        return ObjectMethodsCache.EQUALS_VERIFIER.get(clazz);
+    }
+
+}
@@ -0,0 +1,292 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.bean.Measurement.Cost;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Object Methods Profile measures equals, hashCode and toString on object graphs of increasing size and depth, and fits
+ * the growth of their cost as a power of the number of values in the graph. A fitted exponent over
+ * {@link #SUPERLINEAR_EXPONENT} for hashCode or toString is flagged, as is an allocation over the budget. The calls of
+ * each method are scaled to the time of a probe call, and larger sizes are skipped once a point takes longer than
+ * {@link #POINT_NANOS}, so a superlinear method is flagged from the smaller sizes without running for long.
+ */
+final class ObjectMethodsProfile {
+
+    /** The Constant SIZES of collections, maps and arrays profiled at depth 1. */
+    static final int[] SIZES = { 16, 64, 256, 1024 };
+
+    /** The Constant MAX_DEPTH of nested beans and containers, profiled at the smallest size. */
+    static final int MAX_DEPTH = 3;
+
+    /** The Constant SUPERLINEAR_EXPONENT, above which growth is flagged. */
+    static final double SUPERLINEAR_EXPONENT = 1.5;
+
+    /** The Constant METHODS. */
+    static final String[] METHODS = { "equals", "hashCode", "toString" };
+
+    /** The Constant POINT_NANOS, after which larger sizes are not profiled. */
+    static final long POINT_NANOS = 250_000_000L;
+
+    /** The Constant WARMUP_NANOS, the time spent warming up each method. */
+    private static final long WARMUP_NANOS = 10_000_000L;
+
+    /** The Constant SAMPLE_NANOS, the time of each sample. */
+    private static final long SAMPLE_NANOS = 1_000_000L;
+
+    /** The Constant PROBES, the calls timed to scale the measurement. */
+    private static final int PROBES = 3;
+
+    /** The Constant SAMPLES. */
+    private static final int SAMPLES = 9;
+
+    /** The max bytes per call, not limited when zero or less. */
+    private final long maxBytes;
+
+    /**
+     * Instantiates a new object methods profile.
+     *
+     * @param maxBytes
+     *            the max bytes per call, not limited when zero or less
+     */
+    ObjectMethodsProfile(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the max bytes per call.
+     *
+     * @return the max bytes
+     */
+    long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * Flags of superlinear growth of hashCode and toString and of allocation over budget.
+     *
+     * @param result
+     *            the result
+     *
+     * @return the flags, empty when within budget
+     */
+    List<String> flags(final Result result) {
+        final List<String> flags = new ArrayList<>();
+        for (final int method : new int[] { 1, 2 }) {
+            final double exponent = result.exponent(method);
+            if (exponent > ObjectMethodsProfile.SUPERLINEAR_EXPONENT) {
+                flags.add(String.format(Locale.ROOT, "%s grows as n^%.2f", ObjectMethodsProfile.METHODS[method],
+                        exponent));
+            }
+        }
+        if (this.maxBytes > 0) {
+            for (int method = 0; method < ObjectMethodsProfile.METHODS.length; method++) {
+                double worst = 0;
+                int nodes = 0;
+                for (final Point point : result.points) {
+                    if (point.costs[method].getBytesPerOp() > worst) {
+                        worst = point.costs[method].getBytesPerOp();
+                        nodes = point.nodes;
+                    }
+                }
+                if (worst > this.maxBytes) {
+                    flags.add(String.format(Locale.ROOT, "%s allocates %.0f B per call with %d values, over %d B",
+                            ObjectMethodsProfile.METHODS[method], worst, nodes, this.maxBytes));
+                }
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Measure the call, scaling the number of calls to the time of the fastest probe call.
+     *
+     * @param call
+     *            the call
+     *
+     * @return the cost
+     */
+    private static Cost measure(final Call call) {
+        long probe = Long.MAX_VALUE;
+        for (int i = 0; i < ObjectMethodsProfile.PROBES; i++) {
+            final long start = System.nanoTime();
+            Measurement.consume(Long.valueOf(call.run()));
+            probe = Math.min(probe, Math.max(1, System.nanoTime() - start));
+        }
+        return Measurement.measure(ops -> {
+            long result = 0;
+            for (long i = 0; i < ops; i++) {
+                result += call.run();
+            }
+            Measurement.consume(Long.valueOf(result));
+        }, ObjectMethodsProfile.WARMUP_NANOS / probe, Math.max(1, ObjectMethodsProfile.SAMPLE_NANOS / probe),
+                ObjectMethodsProfile.SAMPLES);
+    }
+
+    @Override
+    public String toString() {
+        return this.maxBytes + " B/call";
+    }
+
+    /**
+     * The Class Result holding the costs measured at each size and depth.
+     */
+    static final class Result {
+
+        /** The points. */
+        private final List<Point> points = new ArrayList<>();
+
+        /**
+         * Measure the object methods on equal instances and add the point.
+         *
+         * @param size
+         *            the size of containers
+         * @param depth
+         *            the depth of nesting
+         * @param nodes
+         *            the number of values in the graph
+         * @param x
+         *            the instance
+         * @param y
+         *            an instance equal to x
+         *
+         * @return true, if the point took no longer than {@link ObjectMethodsProfile#POINT_NANOS}
+         */
+        boolean measure(final int size, final int depth, final int nodes, final Object x, final Object y) {
+            final long start = System.nanoTime();
+            final Cost[] costs = new Cost[ObjectMethodsProfile.METHODS.length];
+            costs[0] = ObjectMethodsProfile.measure(() -> x.equals(y) ? 1 : 0);
+            costs[1] = ObjectMethodsProfile.measure(x::hashCode);
+            costs[2] = ObjectMethodsProfile.measure(() -> x.toString().length());
+            this.points.add(new Point(size, depth, nodes, costs));
+            return System.nanoTime() - start <= ObjectMethodsProfile.POINT_NANOS;
+        }
+
+        /**
+         * Fitted exponent of the growth of the method cost with the number of values, by least squares on logarithms.
+         *
+         * @param method
+         *            the index of the method in {@link ObjectMethodsProfile#METHODS}
+         *
+         * @return the exponent, or NaN when the graph does not grow enough to fit
+         */
+        double exponent(final int method) {
+            double minNodes = Double.MAX_VALUE;
+            double maxNodes = 0;
+            int n = 0;
+            double sumX = 0;
+            double sumY = 0;
+            double sumXx = 0;
+            double sumXy = 0;
+            for (final Point point : this.points) {
+                final double nanos = point.costs[method].getNanosPerOp();
+                if (point.nodes <= 0 || nanos <= 0) {
+                    continue;
+                }
+                minNodes = Math.min(minNodes, point.nodes);
+                maxNodes = Math.max(maxNodes, point.nodes);
+                final double x = Math.log(point.nodes);
+                final double y = Math.log(nanos);
+                n++;
+                sumX += x;
+                sumY += y;
+                sumXx += x * x;
+                sumXy += x * y;
+            }
+            if (n < 2 || maxNodes < 4 * minNodes) {
+                return Double.NaN;
+            }
+            return (n * sumXy - sumX * sumY) / (n * sumXx - sumX * sumX);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%n  %5s  %5s  %7s", "size", "depth", "values"));
+            for (final String method : ObjectMethodsProfile.METHODS) {
+                sb.append(String.format("  %-24s", method));
+            }
+            for (final Point point : this.points) {
+                sb.append(String.format("%n  %5d  %5d  %7d", point.size, point.depth, point.nodes));
+                for (final Cost cost : point.costs) {
+                    sb.append(String.format("  %-24s", cost));
+                }
+            }
+            sb.append(String.format("%n  %-21s", "growth exponent"));
+            for (int method = 0; method < ObjectMethodsProfile.METHODS.length; method++) {
+                final double exponent = this.exponent(method);
+                sb.append(String.format(Locale.ROOT, "  %-24s",
+                        Double.isNaN(exponent) ? "n/a" : String.format(Locale.ROOT, "%.2f", exponent)));
+            }
+            return sb.toString().replaceAll(" +(\\r?\\n|$)", "$1");
+        }
+    }
+
+    /**
+     * The Interface Call of an object method, returning a value to keep it from being eliminated.
+     */
+    @FunctionalInterface
+    private interface Call {
+
+        /**
+         * Run the call.
+         *
+         * @return the value
+         */
+        long run();
+    }
+
+    /**
+     * The Class Point of the profile.
+     */
+    private static final class Point {
+
+        /** The size. */
+        private final int size;
+
+        /** The depth. */
+        private final int depth;
+
+        /** The nodes. */
+        private final int nodes;
+
+        /** The costs, by method. */
+        private final Cost[] costs;
+
+        /**
+         * Instantiates a new point.
+         *
+         * @param size
+         *            the size
+         * @param depth
+         *            the depth
+         * @param nodes
+         *            the nodes
+         * @param costs
+         *            the costs
+         */
+        Point(final int size, final int depth, final int nodes, final Cost[] costs) {
+            this.size = size;
+            this.depth = depth;
+            this.nodes = nodes;
+            this.costs = costs;
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Property Accessor is a compiled getter/setter pair. The methods are bound once to method handles adapted to a fixed
+ * erased signature so each call is an exact invocation without argument arrays or per call access checks.
+ * <p>
+ * Exceptions thrown by the getter or setter are wrapped in {@link InvocationTargetException} so callers see the same
+ * failures as with {@link Method#invoke(Object, Object...)}. A bean or value the handles would reject, such as null for
+ * a primitive or a value of another type, goes through {@link Method#invoke(Object, Object...)} itself so it is
+ * converted or fails with {@link IllegalArgumentException} just as with reflection.
+ * <p>
+ * Values are passed boxed: the worker builds them as objects, so primitive specialized calls would only move the boxing
+ * into the caller.
+ */
+final class PropertyAccessor {
+
+    /** The Constant GETTER_TYPE. */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /** The Constant SETTER_TYPE. */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** The getter method. */
+    private final Method getterMethod;
+
+    /** The setter method. */
+    private final Method setterMethod;
+
+    /** The wrapped type of the setter parameter. */
+    private final Class<?> valueType;
+
+    /** The getter. */
+    private final MethodHandle getter;
+
+    /** The setter. */
+    private final MethodHandle setter;
+
+    /** The access failure, null when both methods could be bound. */
+    private final IllegalAccessException accessFailure;
+
+    /**
+     * Instantiates a new property accessor.
+     *
+     * @param getterMethod
+     *            the getter method
+     * @param setterMethod
+     *            the setter method
+     * @param getter
+     *            the getter
+     * @param setter
+     *            the setter
+     * @param accessFailure
+     *            the access failure
+     */
+    private PropertyAccessor(final Method getterMethod, final Method setterMethod, final MethodHandle getter,
+            final MethodHandle setter, final IllegalAccessException accessFailure) {
+        this.getterMethod = getterMethod;
+        this.setterMethod = setterMethod;
+        this.valueType = MethodType.methodType(setterMethod.getParameterTypes()[0]).wrap().returnType();
+        this.getter = getter;
+        this.setter = setter;
+        this.accessFailure = accessFailure;
+    }
+
+    /**
+     * Compile the getter and setter into an accessor.
+     *
+     * @param getter
+     *            the getter
+     * @param setter
+     *            the setter
+     *
+     * @return the property accessor
+     */
+    static PropertyAccessor compile(final Method getter, final Method setter) {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            return new PropertyAccessor(getter, setter, lookup.unreflect(getter).asType(PropertyAccessor.GETTER_TYPE),
+                    lookup.unreflect(setter).asType(PropertyAccessor.SETTER_TYPE), null);
+        } catch (final IllegalAccessException e) {
+            // Report on use, just as reflection would
+            return new PropertyAccessor(getter, setter, null, null, e);
+        }
+    }
+
+    /**
+     * Invoke the getter.
+     *
+     * @param bean
+     *            the bean
+     *
+     * @return the value
+     *
+     * @throws IllegalAccessException
+     *             the illegal access exception
+     * @throws InvocationTargetException
+     *             the invocation target exception
+     */
+    Object get(final Object bean) throws IllegalAccessException, InvocationTargetException {
+        if (this.accessFailure != null) {
+            throw this.accessFailure;
+        }
+        if (!this.getterMethod.getDeclaringClass().isInstance(bean)) {
+            return this.getterMethod.invoke(bean);
+        }
+        try {
+            return (Object) this.getter.invokeExact(bean);
+        } catch (final Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Invoke the setter.
+     *
+     * @param bean
+     *            the bean
+     * @param value
+     *            the value
+     *
+     * @throws IllegalAccessException
+     *             the illegal access exception
+     * @throws InvocationTargetException
+     *             the invocation target exception
+     */
+    void set(final Object bean, final Object value) throws IllegalAccessException, InvocationTargetException {
+        if (this.accessFailure != null) {
+            throw this.accessFailure;
+        }
+        if (!this.setterMethod.getDeclaringClass().isInstance(bean) || !this.valueType.isInstance(value)
+                && (value != null || this.setterMethod.getParameterTypes()[0].isPrimitive())) {
+            this.setterMethod.invoke(bean, value);
+            return;
+        }
+        try {
+            this.setter.invokeExact(bean, value);
+        } catch (final Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Scan Result aggregates the outcome of testing each bean found by {@link JavaBeanTester#scan(String)}.
+ */
+public final class ScanResult {
+
+    /** The results, in class name order. */
+    private final List<ClassResult> results;
+
+    /** The elapsed nanos of the whole scan. */
+    private final long elapsedNanos;
+
+    /**
+     * Instantiates a new scan result.
+     *
+     * @param results
+     *            the results
+     * @param elapsedNanos
+     *            the elapsed nanos
+     */
+    ScanResult(final List<ClassResult> results, final long elapsedNanos) {
+        this.results = Collections.unmodifiableList(results);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the results.
+     *
+     * @return the results, in class name order
+     */
+    public List<ClassResult> getResults() {
+        return this.results;
+    }
+
+    /**
+     * Gets the failures.
+     *
+     * @return the failures
+     */
+    public List<ClassResult> getFailures() {
+        return this.results.stream().filter(result -> !result.isPassed()).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the elapsed nanos of the whole scan.
+     *
+     * @return the elapsed nanos
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Write the elapsed nanos of each bean as properties, for use as shard weights by
+     * {@link JavaBeanScanBuilder#shardWeights(Path...)} on later runs.
+     *
+     * @param file
+     *            the file
+     *
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    public void writeTimings(final Path file) throws IOException {
+        final List<String> lines = this.results.stream().filter(result -> !result.isSkipped())
+                .map(result -> result.getClassName() + "=" + result.getElapsedNanos()).collect(Collectors.toList());
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Checks if every bean passed.
+     *
+     * @return true, if successful
+     */
+    public boolean isPassed() {
+        return this.results.stream().allMatch(ClassResult::isPassed);
+    }
+
+    /**
+     * Assert every bean passed, failing with the failure of each bean that did not.
+     */
+    public void assertPassed() {
+        final List<ClassResult> failures = this.getFailures();
+        if (!failures.isEmpty()) {
+            Assertions.fail(String.format("%d of %d beans failed:%n%s", failures.size(), this.results.size(),
+                    failures.stream().map(result -> result.getClassName() + ": " + result.getFailure())
+                            .collect(Collectors.joining(System.lineSeparator()))));
+        }
+    }
+
+    /**
+     * The Class ClassResult is the outcome of testing one bean.
+     */
+    public static final class ClassResult {
+
+        /** The class name. */
+        private final String className;
+
+        /** The failure, null when passed. */
+        private final Throwable failure;
+
+        /** The elapsed nanos. */
+        private final long elapsedNanos;
+
+        /** The skipped flag, set when an unchanged bean was not tested again. */
+        private final boolean skipped;
+
+        /**
+         * Instantiates a new class result.
+         *
+         * @param className
+         *            the class name
+         * @param failure
+         *            the failure, null when passed
+         * @param elapsedNanos
+         *            the elapsed nanos
+         */
+        ClassResult(final String className, final Throwable failure, final long elapsedNanos) {
+            this(className, failure, elapsedNanos, false);
+        }
+
+        /**
+         * Instantiates a new class result.
+         *
+         * @param className
+         *            the class name
+         * @param failure
+         *            the failure, null when passed
+         * @param elapsedNanos
+         *            the elapsed nanos
+         * @param skipped
+         *            the skipped flag
+         */
+        ClassResult(final String className, final Throwable failure, final long elapsedNanos, final boolean skipped) {
+            this.className = className;
+            this.failure = failure;
+            this.elapsedNanos = elapsedNanos;
+            this.skipped = skipped;
+        }
+
+        /**
+         * Gets the class name.
+         *
+         * @return the class name
+         */
+        public String getClassName() {
+            return this.className;
+        }
+
+        /**
+         * Checks if is passed.
+         *
+         * @return true, if is passed
+         */
+        public boolean isPassed() {
+            return this.failure == null;
+        }
+
+        /**
+         * Checks if is skipped, the bean passed before and is unchanged so was not tested again.
+         *
+         * @return true, if is skipped
+         */
+        public boolean isSkipped() {
+            return this.skipped;
+        }
+
+        /**
+         * Gets the failure.
+         *
+         * @return the failure, null when passed
+         */
+        public Throwable getFailure() {
+            return this.failure;
+        }
+
+        /**
+         * Gets the elapsed nanos.
+         *
+         * @return the elapsed nanos
+         */
+        public long getElapsedNanos() {
+            return this.elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            if (this.skipped) {
+                return this.className + " skipped";
+            }
+            return this.className + (this.isPassed() ? " passed" : " failed") + " in " + this.elapsedNanos + "ns";
+        }
+    }
+
+}
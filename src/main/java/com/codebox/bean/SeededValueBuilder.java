@@ -0,0 +1,100 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.enums.LoadType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Seeded Value Builder builds varying values from a seeded random source, so repeated builds produce distinct but
+ * reproducible instances. Values are drawn from a range the size of the sample, much like the low entropy keys of real
+ * data. Types without a varying value are built by {@link ValueBuilder}.
+ */
+class SeededValueBuilder extends ValueBuilder {
+
+    /** The random. */
+    private final SplittableRandom random;
+
+    /** The range of values. */
+    private final int range;
+
+    /**
+     * Instantiates a new seeded value builder.
+     *
+     * @param seed
+     *            the seed
+     * @param range
+     *            the range of values
+     */
+    SeededValueBuilder(final long seed, final int range) {
+        this.random = new SplittableRandom(seed);
+        this.range = Math.max(2, range);
+    }
+
+    @Override
+    <T> Object buildValue(final Class<T> clazz, final LoadType loadType, final String property) {
+        final int next = this.random.nextInt(this.range);
+        if (clazz == String.class) {
+            return "value" + next;
+        }
+        if (clazz == int.class || clazz == Integer.class) {
+            return Integer.valueOf(next);
+        }
+        if (clazz == long.class || clazz == Long.class) {
+            return Long.valueOf(next);
+        }
+        if (clazz == short.class || clazz == Short.class) {
+            return Short.valueOf((short) next);
+        }
+        if (clazz == byte.class || clazz == Byte.class) {
+            return Byte.valueOf((byte) next);
+        }
+        if (clazz == char.class || clazz == Character.class) {
+            return Character.valueOf((char) ('A' + next % 26));
+        }
+        if (clazz == double.class || clazz == Double.class) {
+            return Double.valueOf(next / 4.0);
+        }
+        if (clazz == float.class || clazz == Float.class) {
+            return Float.valueOf(next / 4.0F);
+        }
+        if (clazz == boolean.class || clazz == Boolean.class) {
+            return Boolean.valueOf((next & 1) == 0);
+        }
+        if (clazz == BigDecimal.class) {
+            return BigDecimal.valueOf(next, 2);
+        }
+        if (clazz == UUID.class) {
+            return new UUID(0L, next);
+        }
+        if (clazz == Instant.class) {
+            return Instant.ofEpochSecond(next);
+        }
+        if (clazz == LocalDate.class) {
+            return LocalDate.ofEpochDay(next);
+        }
+        if (clazz.isEnum()) {
+            final T[] constants = clazz.getEnumConstants();
+            return constants.length == 0 ? null : constants[next % constants.length];
+        }
+        return super.buildValue(clazz, loadType, property);
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Sensitivity Matrix records, for each property, whether changing it changes equals and changes hashCode. A property in
+ * equals but not in hashCode is a collision magnet, as instances differing only in it share a bucket. A changed
+ * hashCode on instances that are still equal breaks the contract of {@link Object#hashCode()}.
+ */
+final class SensitivityMatrix {
+
+    /** The Constant YES. */
+    private static final char YES = 'X';
+
+    /** The Constant NO. */
+    private static final char NO = '-';
+
+    /** The Constant UNKNOWN, when the mutations could not show a change. */
+    private static final char UNKNOWN = '?';
+
+    /** The class name. */
+    private final String className;
+
+    /** The rows by property name. */
+    private final Map<String, Row> rows = new LinkedHashMap<>();
+
+    /**
+     * Instantiates a new sensitivity matrix.
+     *
+     * @param className
+     *            the class name
+     */
+    SensitivityMatrix(final String className) {
+        this.className = className;
+    }
+
+    /**
+     * Record the sensitivity of the property.
+     *
+     * @param property
+     *            the property
+     * @param equalsChanged
+     *            whether changing it changed equals, null when unknown
+     * @param hashCodeChanged
+     *            whether changing it changed hashCode, null when unknown
+     * @param contractViolated
+     *            whether an equal instance had a different hashCode
+     */
+    void record(final String property, final Boolean equalsChanged, final Boolean hashCodeChanged,
+            final boolean contractViolated) {
+        this.rows.put(property, new Row(equalsChanged, hashCodeChanged, contractViolated));
+    }
+
+    /**
+     * Gets the properties in equals but not in hashCode.
+     *
+     * @return the collision magnets
+     */
+    List<String> getCollisionMagnets() {
+        final List<String> magnets = new ArrayList<>();
+        for (final Entry<String, Row> entry : this.rows.entrySet()) {
+            if (entry.getValue().isCollisionMagnet()) {
+                magnets.add(entry.getKey());
+            }
+        }
+        return magnets;
+    }
+
+    /**
+     * Gets the properties changing hashCode of equal instances.
+     *
+     * @return the contract violations
+     */
+    List<String> getContractViolations() {
+        final List<String> violations = new ArrayList<>();
+        for (final Entry<String, Row> entry : this.rows.entrySet()) {
+            if (entry.getValue().contractViolated) {
+                violations.add(entry.getKey());
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Checks if any property is flagged.
+     *
+     * @return true, if flagged
+     */
+    boolean isFlagged() {
+        return !this.getCollisionMagnets().isEmpty() || !this.getContractViolations().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        int width = "property".length();
+        for (final String property : this.rows.keySet()) {
+            width = Math.max(width, property.length());
+        }
+        final String format = "%n  %-" + width + "s  %-6s  %-8s  %s";
+        final StringBuilder sb = new StringBuilder(this.className);
+        sb.append(String.format(format, "property", "equals", "hashCode", "").stripTrailing());
+        for (final Entry<String, Row> entry : this.rows.entrySet()) {
+            final Row row = entry.getValue();
+            final String flag = row.contractViolated ? "contract violation"
+                    : row.isCollisionMagnet() ? "collision magnet" : "";
+            sb.append(String.format(format, entry.getKey(), SensitivityMatrix.mark(row.equalsChanged),
+                    SensitivityMatrix.mark(row.hashCodeChanged), flag).stripTrailing());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Mark of the sensitivity.
+     *
+     * @param changed
+     *            whether changed, null when unknown
+     *
+     * @return the mark
+     */
+    private static String mark(final Boolean changed) {
+        if (changed == null) {
+            return String.valueOf(SensitivityMatrix.UNKNOWN);
+        }
+        return String.valueOf(changed.booleanValue() ? SensitivityMatrix.YES : SensitivityMatrix.NO);
+    }
+
+    /**
+     * The Class Row of a property.
+     */
+    private static final class Row {
+
+        /** The equals changed, null when unknown. */
+        private final Boolean equalsChanged;
+
+        /** The hash code changed, null when unknown. */
+        private final Boolean hashCodeChanged;
+
+        /** The contract violated. */
+        private final boolean contractViolated;
+
+        /**
+         * Instantiates a new row.
+         *
+         * @param equalsChanged
+         *            the equals changed
+         * @param hashCodeChanged
+         *            the hash code changed
+         * @param contractViolated
+         *            the contract violated
+         */
+        Row(final Boolean equalsChanged, final Boolean hashCodeChanged, final boolean contractViolated) {
+            this.equalsChanged = equalsChanged;
+            this.hashCodeChanged = hashCodeChanged;
+            this.contractViolated = contractViolated;
+        }
+
+        /**
+         * Checks if is collision magnet.
+         *
+         * @return true, if is collision magnet
+         */
+        boolean isCollisionMagnet() {
+            return Boolean.TRUE.equals(this.equalsChanged) && Boolean.FALSE.equals(this.hashCodeChanged);
+        }
+    }
+
+}
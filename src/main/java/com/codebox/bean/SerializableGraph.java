@@ -0,0 +1,189 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.io.Externalizable;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Serializable Graph statically walks the declared fields reachable from a serializable class and reports every field
+ * whose type cannot be serialized, including fields a runtime round trip misses because they are null. Interfaces,
+ * abstract classes and type variables cannot be judged from their declaration and are not reported, though their
+ * resolved generic arguments are still walked. Classes controlling their own serialization and classes of the JDK are
+ * trusted and not walked further. The result is computed once per class.
+ */
+final class SerializableGraph {
+
+    /** The Constant PROBLEMS. */
+    private static final ClassValue<List<String>> PROBLEMS = new ClassValue<>() {
+        @Override
+        protected List<String> computeValue(final Class<?> type) {
+            return SerializableGraph.analyze(type);
+        }
+    };
+
+    /**
+     * Prevent Instantiation of serializable graph.
+     */
+    private SerializableGraph() {
+        // Prevent Instantiation
+    }
+
+    /**
+     * Gets the problems reachable from the class.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the problems as {@code Owner.field (Type)}, sorted, empty when none
+     */
+    static List<String> problems(final Class<?> clazz) {
+        return SerializableGraph.PROBLEMS.get(clazz);
+    }
+
+    /**
+     * Analyze the class, walking each reachable class once so cycles end.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the problems
+     */
+    private static List<String> analyze(final Class<?> clazz) {
+        final Set<String> problems = new TreeSet<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        final Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(clazz);
+        while (!pending.isEmpty()) {
+            final Class<?> type = pending.poll();
+            if (!visited.add(type) || !SerializableGraph.isWalked(type)) {
+                continue;
+            }
+            // Fields of serializable super classes are serialized too
+            for (Class<?> owner = type; owner != null
+                    && Serializable.class.isAssignableFrom(owner); owner = owner.getSuperclass()) {
+                for (final Field field : owner.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                        continue;
+                    }
+                    final Set<Class<?>> reached = new HashSet<>();
+                    SerializableGraph.resolve(field.getGenericType(), reached);
+                    for (final Class<?> fieldType : reached) {
+                        if (SerializableGraph.isNotSerializable(fieldType)) {
+                            problems.add(owner.getName() + "." + field.getName() + " (" + fieldType.getName() + ")");
+                        } else {
+                            pending.add(fieldType);
+                        }
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableList(problems.stream().collect(Collectors.toList()));
+    }
+
+    /**
+     * Resolve the classes a declared type may hold: the raw type and, for parameterized types and arrays, the
+     * resolvable argument and component types.
+     *
+     * @param type
+     *            the type
+     * @param reached
+     *            the reached classes
+     */
+    private static void resolve(final Type type, final Set<Class<?>> reached) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            if (!clazz.isPrimitive()) {
+                reached.add(clazz);
+            }
+        } else if (type instanceof ParameterizedType) {
+            SerializableGraph.resolve(((ParameterizedType) type).getRawType(), reached);
+            for (final Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                SerializableGraph.resolve(argument, reached);
+            }
+        } else if (type instanceof GenericArrayType) {
+            SerializableGraph.resolve(((GenericArrayType) type).getGenericComponentType(), reached);
+        } else if (type instanceof WildcardType) {
+            for (final Type bound : ((WildcardType) type).getUpperBounds()) {
+                SerializableGraph.resolve(bound, reached);
+            }
+        } else if (type instanceof TypeVariable) {
+            // Only the bound is known, which is judged like any declared type
+            for (final Type bound : ((TypeVariable<?>) type).getBounds()) {
+                SerializableGraph.resolve(bound, reached);
+            }
+        }
+    }
+
+    /**
+     * Checks if a field declared of the type can never hold a serializable value.
+     *
+     * @param type
+     *            the type
+     *
+     * @return true, if is not serializable
+     */
+    private static boolean isNotSerializable(final Class<?> type) {
+        return !type.isInterface() && !Modifier.isAbstract(type.getModifiers()) && type != Object.class
+                && !Serializable.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Checks if the fields of the class are walked. Classes of the JDK and classes controlling their own serialization
+     * are trusted.
+     *
+     * @param type
+     *            the type
+     *
+     * @return true, if is walked
+     */
+    private static boolean isWalked(final Class<?> type) {
+        if (type.isInterface() || type.isEnum() || !Serializable.class.isAssignableFrom(type)
+                || Externalizable.class.isAssignableFrom(type)) {
+            return false;
+        }
+        final ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null || classLoader == ClassLoader.getPlatformClassLoader()) {
+            return false;
+        }
+        for (final Method method : type.getDeclaredMethods()) {
+            if ("writeObject".equals(method.getName()) || "writeReplace".equals(method.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+/**
+ * Serialization Budget holds the serialized size and round trip time a bean must stay within.
+ */
+final class SerializationBudget {
+
+    /** The Constant WARMUP_ITERATIONS. */
+    static final int WARMUP_ITERATIONS = 50;
+
+    /** The Constant MEASURED_ITERATIONS. */
+    static final int MEASURED_ITERATIONS = 31;
+
+    /** The max bytes, not limited when zero or less. */
+    private final long maxBytes;
+
+    /** The max nanos, not limited when zero or less. */
+    private final long maxNanos;
+
+    /**
+     * Instantiates a new serialization budget.
+     *
+     * @param maxBytes
+     *            the max bytes
+     * @param maxNanos
+     *            the max nanos
+     */
+    SerializationBudget(final long maxBytes, final long maxNanos) {
+        this.maxBytes = maxBytes;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Checks if the size is over budget.
+     *
+     * @param bytes
+     *            the bytes
+     *
+     * @return true, if over budget
+     */
+    boolean isOverBytes(final long bytes) {
+        return this.maxBytes > 0 && bytes > this.maxBytes;
+    }
+
+    /**
+     * Checks if the time is over budget.
+     *
+     * @param nanos
+     *            the nanos
+     *
+     * @return true, if over budget
+     */
+    boolean isOverNanos(final long nanos) {
+        return this.maxNanos > 0 && nanos > this.maxNanos;
+    }
+
+    /**
+     * Gets the max bytes.
+     *
+     * @return the max bytes
+     */
+    long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * Gets the max nanos.
+     *
+     * @return the max nanos
+     */
+    long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return this.maxBytes + " bytes/" + this.maxNanos + " ns";
+    }
+
+}
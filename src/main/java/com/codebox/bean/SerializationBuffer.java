@@ -0,0 +1,109 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Serialization Buffer is a growable byte buffer kept in a small pool shared by all threads, so serialization checks
+ * reuse the same array rather than allocating and then copying a new one each time. The pool does not depend on the
+ * thread, so beans tested on a new virtual thread each still reuse buffers. The bytes written are read back in place.
+ */
+final class SerializationBuffer extends ByteArrayOutputStream {
+
+    /** The Constant INITIAL_SIZE. */
+    private static final int INITIAL_SIZE = 4 * 1024;
+
+    /** The Constant MAX_RETAINED_SIZE, larger buffers are dropped on release so one huge bean is not held forever. */
+    private static final int MAX_RETAINED_SIZE = 1024 * 1024;
+
+    /** The Constant SLOTS, enough for each processor to hold a buffer and a reentrant one. */
+    static final int SLOTS = 2 * Runtime.getRuntime().availableProcessors();
+
+    /** The Constant BUFFERS, the free buffers, null in an empty slot. */
+    private static final AtomicReferenceArray<SerializationBuffer> BUFFERS = new AtomicReferenceArray<>(
+            SerializationBuffer.SLOTS);
+
+    /**
+     * Instantiates a new serialization buffer.
+     */
+    private SerializationBuffer() {
+        super(SerializationBuffer.INITIAL_SIZE);
+    }
+
+    /**
+     * Acquire a free buffer, emptied, or a new one when none is free. Reentrant use gets a buffer of its own.
+     *
+     * @return the serialization buffer
+     */
+    static SerializationBuffer acquire() {
+        final int start = SerializationBuffer.start();
+        for (int i = 0; i < SerializationBuffer.SLOTS; i++) {
+            final SerializationBuffer buffer = SerializationBuffer.BUFFERS
+                    .getAndSet((start + i) % SerializationBuffer.SLOTS, null);
+            if (buffer != null) {
+                return buffer;
+            }
+        }
+        return new SerializationBuffer();
+    }
+
+    /**
+     * Release the buffer for reuse, dropping it when the pool is full.
+     */
+    void release() {
+        if (this.buf.length > SerializationBuffer.MAX_RETAINED_SIZE) {
+            this.buf = new byte[SerializationBuffer.INITIAL_SIZE];
+        }
+        this.reset();
+        final int start = SerializationBuffer.start();
+        for (int i = 0; i < SerializationBuffer.SLOTS; i++) {
+            if (SerializationBuffer.BUFFERS.compareAndSet((start + i) % SerializationBuffer.SLOTS, null, this)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * First slot tried by the current thread, so concurrent threads mostly use different slots.
+     *
+     * @return the slot
+     */
+    private static int start() {
+        return (int) (Thread.currentThread().getId() % SerializationBuffer.SLOTS);
+    }
+
+    /**
+     * Input stream reading the bytes written, without copying them.
+     *
+     * @return the input stream
+     */
+    InputStream toInputStream() {
+        return new ByteArrayInputStream(this.buf, 0, this.count);
+    }
+
+    /**
+     * Gets the capacity.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return this.buf.length;
+    }
+
+}
@@ -0,0 +1,338 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.bean.BeanMetadata.BeanProperty;
+import com.codebox.enums.LoadData;
+import com.codebox.enums.LoadType;
+import com.codebox.instance.ClassInstance;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Sized Value Builder fills collection, map and array properties with a given number of distinct elements, and nested
+ * beans down to a given depth, so the cost of the object methods can be measured as the object graph grows. Values it
+ * does not size are built by {@link ValueBuilder} without loading nested data.
+ */
+class SizedValueBuilder extends ValueBuilder {
+
+    /** The size of collections, maps and arrays. */
+    private final int size;
+
+    /** The depth of nested beans and containers. */
+    private final int depth;
+
+    /** The number of values built into containers and beans. */
+    private int nodes;
+
+    /**
+     * Instantiates a new sized value builder.
+     *
+     * @param size
+     *            the size of collections, maps and arrays
+     * @param depth
+     *            the depth of nested beans and containers
+     */
+    SizedValueBuilder(final int size, final int depth) {
+        this.size = size;
+        this.depth = depth;
+        this.setLoadData(LoadData.OFF);
+    }
+
+    /**
+     * Gets the number of values built into containers and beans.
+     *
+     * @return the nodes
+     */
+    int getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * Builds the value of the type at the nesting level, sizing containers and filling beans above the depth.
+     *
+     * @param type
+     *            the type
+     * @param level
+     *            the nesting level, 1 for the properties of the bean under test
+     *
+     * @return the value
+     */
+    Object build(final Type type, final int level) {
+        final Class<?> raw = SizedValueBuilder.raw(type);
+        if (level > this.depth) {
+            return super.buildValue(raw, LoadType.STANDARD_DATA, null);
+        }
+        if (raw.isArray()) {
+            final Type component = type instanceof GenericArrayType
+                    ? ((GenericArrayType) type).getGenericComponentType()
+                    : raw.getComponentType();
+            final Object array = Array.newInstance(raw.getComponentType(), this.size);
+            for (int i = 0; i < this.size; i++) {
+                final Object element = this.element(component, i, level + 1);
+                if (element != null || !raw.getComponentType().isPrimitive()) {
+                    Array.set(array, i, element);
+                }
+            }
+            return array;
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            final Type elementType = SizedValueBuilder.argument(type, 0);
+            final Collection<Object> collection = SizedValueBuilder.newCollection(raw, elementType);
+            if (collection == null) {
+                return super.buildValue(raw, LoadType.STANDARD_DATA, null);
+            }
+            for (int i = 0; i < this.size; i++) {
+                final Object element = this.element(elementType, i, level + 1);
+                if (element != null) {
+                    collection.add(element);
+                }
+            }
+            return collection;
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            final Type keyType = SizedValueBuilder.argument(type, 0);
+            final Type valueType = SizedValueBuilder.argument(type, 1);
+            final Map<Object, Object> map = SizedValueBuilder.newMap(raw, keyType);
+            if (map == null) {
+                return super.buildValue(raw, LoadType.STANDARD_DATA, null);
+            }
+            for (int i = 0; i < this.size; i++) {
+                final Object key = this.element(keyType, i, level + 1);
+                final Object value = this.element(valueType, i, level + 1);
+                if (key != null && value != null) {
+                    map.put(key, value);
+                }
+            }
+            return map;
+        }
+        if (SizedValueBuilder.isBean(raw)) {
+            return this.newBean(raw, level);
+        }
+        return super.buildValue(raw, LoadType.STANDARD_DATA, null);
+    }
+
+    /**
+     * New bean with each property built at the next nesting level.
+     *
+     * @param <B>
+     *            the generic type
+     * @param clazz
+     *            the clazz
+     * @param level
+     *            the nesting level of the bean
+     *
+     * @return the bean
+     */
+    <B> B newBean(final Class<B> clazz, final int level) {
+        final B bean = new ClassInstance<B>().newInstance(clazz);
+        if (bean == null) {
+            return null;
+        }
+        for (final BeanProperty prop : BeanMetadata.of(clazz).getProperties()) {
+            if (prop.isTestable()) {
+                this.set(prop, bean, level + 1);
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Set the property of the bean to a value built at the level.
+     *
+     * @param prop
+     *            the property
+     * @param bean
+     *            the bean
+     * @param level
+     *            the nesting level of the value
+     */
+    void set(final BeanProperty prop, final Object bean, final int level) {
+        try {
+            prop.getAccessor().set(bean, this.build(prop.getGetter().getGenericReturnType(), level));
+            this.nodes++;
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            Assertions.fail(String.format("An exception was thrown while sizing the property '%s' : '%s'",
+                    prop.getName(), e.toString()));
+        }
+    }
+
+    /**
+     * Element of a container, distinct for each index where the type allows.
+     *
+     * @param type
+     *            the type
+     * @param index
+     *            the index
+     * @param level
+     *            the nesting level of the element
+     *
+     * @return the element
+     */
+    private Object element(final Type type, final int index, final int level) {
+        this.nodes++;
+        final Class<?> raw = SizedValueBuilder.raw(type);
+        if (raw == String.class || raw == Object.class || raw == CharSequence.class) {
+            return "value" + index;
+        }
+        if (raw == int.class || raw == Integer.class) {
+            return Integer.valueOf(index);
+        }
+        if (raw == long.class || raw == Long.class) {
+            return Long.valueOf(index);
+        }
+        if (raw == double.class || raw == Double.class) {
+            return Double.valueOf(index);
+        }
+        if (raw.isEnum()) {
+            final Object[] constants = raw.getEnumConstants();
+            return constants.length == 0 ? null : constants[index % constants.length];
+        }
+        return this.build(type, level);
+    }
+
+    /**
+     * Checks if the class is a bean that can be filled.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return true, if is bean
+     */
+    private static boolean isBean(final Class<?> clazz) {
+        if (clazz.isPrimitive() || clazz.isInterface() || clazz.isEnum() || Modifier.isAbstract(clazz.getModifiers())
+                || clazz.getName().startsWith("java.")) {
+            return false;
+        }
+        return BeanMetadata.of(clazz).getProperties().stream().anyMatch(BeanProperty::isTestable);
+    }
+
+    /**
+     * New collection of the type.
+     *
+     * @param raw
+     *            the raw type
+     * @param elementType
+     *            the element type
+     *
+     * @return the collection, or null when none can be created
+     */
+    private static Collection<Object> newCollection(final Class<?> raw, final Type elementType) {
+        if (raw.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>();
+        }
+        if (raw.isAssignableFrom(LinkedHashSet.class)) {
+            return new LinkedHashSet<>();
+        }
+        if (raw.isAssignableFrom(TreeSet.class)
+                && Comparable.class.isAssignableFrom(SizedValueBuilder.raw(elementType))) {
+            return new TreeSet<>();
+        }
+        if (raw.isAssignableFrom(ArrayDeque.class)) {
+            return new ArrayDeque<>();
+        }
+        return null;
+    }
+
+    /**
+     * New map of the type.
+     *
+     * @param raw
+     *            the raw type
+     * @param keyType
+     *            the key type
+     *
+     * @return the map, or null when none can be created
+     */
+    private static Map<Object, Object> newMap(final Class<?> raw, final Type keyType) {
+        if (raw.isAssignableFrom(LinkedHashMap.class)) {
+            return new LinkedHashMap<>();
+        }
+        if (raw.isAssignableFrom(ConcurrentHashMap.class)) {
+            return new ConcurrentHashMap<>();
+        }
+        if (raw.isAssignableFrom(TreeMap.class) && Comparable.class.isAssignableFrom(SizedValueBuilder.raw(keyType))) {
+            return new TreeMap<>();
+        }
+        return null;
+    }
+
+    /**
+     * Type argument of the type.
+     *
+     * @param type
+     *            the type
+     * @param index
+     *            the index
+     *
+     * @return the type argument, or Object when not parameterized
+     */
+    private static Type argument(final Type type, final int index) {
+        if (type instanceof ParameterizedType) {
+            final Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                return arguments[index];
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * Raw class of the type.
+     *
+     * @param type
+     *            the type
+     *
+     * @return the raw class
+     */
+    private static Class<?> raw(final Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return SizedValueBuilder.raw(((ParameterizedType) type).getRawType());
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(SizedValueBuilder.raw(((GenericArrayType) type).getGenericComponentType()), 0)
+                    .getClass();
+        }
+        if (type instanceof WildcardType) {
+            return SizedValueBuilder.raw(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            return SizedValueBuilder.raw(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+}
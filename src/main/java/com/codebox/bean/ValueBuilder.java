@@ -16,50 +16,39 @@ package com.codebox.bean;
 
 import com.codebox.enums.LoadData;
 import com.codebox.enums.LoadType;
+import com.codebox.events.ValueBuildEvent;
 import com.codebox.instance.ClassInstance;
 import com.codebox.instance.ConstructorInstance;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.OffsetDateTime;
-import java.time.ZoneId;
 import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import lombok.Data;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * Value Builder Builds values from given type.
  */
 @Data
 public class ValueBuilder {
 
-    /** The Constant Logger. */
-    private static final Logger logger = LoggerFactory.getLogger(ValueBuilder.class);
+    /** The Constant DEFAULT_CLOCK, fixed so generated time based values are deterministic. */
+    public static final Clock DEFAULT_CLOCK = Clock.fixed(Instant.parse("2000-10-01T00:00:00Z"), ZoneOffset.UTC);
+
+    /** The Constant DEPTH of nested value building on the current thread, only tracked while recording. */
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
 
     /** The load data. */
     private LoadData loadData;
 
+    /** The clock used for time based values. */
+    private Clock clock = ValueBuilder.DEFAULT_CLOCK;
+
     /**
      * Builds the value.
      *
@@ -73,108 +62,122 @@ public class ValueBuilder {
      * @return the object
      */
     public <T> Object buildValue(final Class<T> clazz, final LoadType loadType) {
-        // Next check for a no-arg constructor
-        final Constructor<?>[] ctrs = clazz.getConstructors();
-        for (final Constructor<?> ctr : ctrs) {
-            if (ctr.getParameterTypes().length == 0 && clazz != String.class) {
-                if (this.loadData == LoadData.ON && !containsSelf(clazz)) {
-                    // Load Underlying Data to deeply test when it doesn't contain self
-                    final JavaBeanTesterWorker<T, Object> beanTesterWorker = new JavaBeanTesterWorker<>(clazz);
-                    beanTesterWorker.setLoadData(this.loadData);
-                    beanTesterWorker.getterSetterTests(new ClassInstance<T>().newInstance(clazz));
-                    return null;
-                }
-                // The class has a no-arg constructor, so just call it
-                return ConstructorInstance.newInstance(ctr);
+        return this.buildValue(clazz, loadType, null);
+    }
+
+    /**
+     * Builds the value for a property, recording a flight recorder event with the depth of nested value building when
+     * enabled.
+     *
+     * @param <T>
+     *            the generic type
+     * @param clazz
+     *            the clazz
+     * @param loadType
+     *            the load type
+     * @param property
+     *            the property the value is built for, null when none
+     *
+     * @return the object
+     */
+    <T> Object buildValue(final Class<T> clazz, final LoadType loadType, final String property) {
+        final ValueBuildEvent event = new ValueBuildEvent();
+        if (!event.isEnabled()) {
+            return ValueStrategies.of(clazz).build(clazz, loadType, this);
+        }
+
+        final int[] depth = ValueBuilder.DEPTH.get();
+        final int current = depth[0]++;
+        event.begin();
+        try {
+            return ValueStrategies.of(clazz).build(clazz, loadType, this);
+        } finally {
+            event.end();
+            depth[0]--;
+            if (event.shouldCommit()) {
+                event.setValueClass(clazz.getName());
+                event.setProperty(property);
+                event.setLoadType(loadType.name());
+                event.setDepth(current);
+                event.commit();
             }
         }
+    }
+
+    /**
+     * Register a value strategy used to build values of the exact type, taking precedence over the built-in rules. This
+     * is also the source of {@link LoadType#CUSTOM_DATA}.
+     *
+     * @param <T>
+     *            the generic type
+     * @param type
+     *            the type
+     * @param strategy
+     *            the strategy
+     */
+    public static <T> void register(final Class<T> type, final ValueStrategy strategy) {
+        ValueStrategies.register(type, strategy);
+    }
+
+    /**
+     * Unregister the value strategy of the exact type, restoring the built-in rules.
+     *
+     * @param <T>
+     *            the generic type
+     * @param type
+     *            the type
+     */
+    public static <T> void unregister(final Class<T> type) {
+        ValueStrategies.unregister(type);
+    }
+
+    /**
+     * Builds the bean using its no-arg constructor.
+     *
+     * @param <T>
+     *            the generic type
+     * @param clazz
+     *            the clazz
+     * @param ctr
+     *            the no-arg constructor
+     *
+     * @return the object
+     */
+    <T> Object buildBean(final Class<T> clazz, final Constructor<?> ctr) {
+        if (this.loadData == LoadData.ON && !containsSelf(clazz)) {
+            // Load Underlying Data to deeply test when it doesn't contain self
+            final JavaBeanTesterWorker<T, Object> beanTesterWorker = new JavaBeanTesterWorker<>(clazz);
+            beanTesterWorker.setLoadData(this.loadData);
+            beanTesterWorker.setClock(this.clock);
+            beanTesterWorker.getterSetterTests(new ClassInstance<T>().newInstance(clazz));
+            return null;
+        }
+        // The class has a no-arg constructor, so just call it
+        return ConstructorInstance.newInstance(ctr);
+    }
 
-        // Specific rules for common classes
-        Object returnObject = null;
+    /**
+     * Set values for the load type. Use {@link ValuePool} for pooled values.
+     *
+     * @param <T>
+     *            the type parameter associated with the class under test.
+     * @param clazz
+     *            the class under test.
+     * @param loadType
+     *            the load type
+     *
+     * @return Object the Object to use for test.
+     */
+    static <T> Object setValues(final Class<T> clazz, final LoadType loadType) {
         switch (loadType) {
             case ALTERNATE_DATA:
-                returnObject = ValueBuilder.setAlternateValues(clazz);
-                break;
+                return ValueBuilder.setAlternateValues(clazz);
             case NULL_DATA:
-                returnObject = ValueBuilder.setNullValues(clazz);
-                break;
+                return ValueBuilder.setNullValues(clazz);
             case STANDARD_DATA:
             default:
-                returnObject = ValueBuilder.setStandardValues(clazz);
-                break;
-        }
-
-        if (returnObject != null || loadType == LoadType.NULL_DATA) {
-            return returnObject;
-        }
-
-        if (clazz.isAssignableFrom(BigDecimal.class)) {
-            return BigDecimal.ONE;
-        }
-
-        if (clazz.isAssignableFrom(UUID.class)) {
-            return UUID.fromString("00000000-0000-0000-0000-000123456789");
-        }
-
-        if (clazz.isAssignableFrom(Instant.class)) {
-            return Instant.ofEpochSecond(1L);
-        }
-
-        if (clazz.isAssignableFrom(List.class)) {
-            return new ArrayList<>();
-        }
-
-        if (clazz.isAssignableFrom(Map.class)) {
-            return new HashMap<>();
-        }
-
-        if (clazz.isAssignableFrom(ConcurrentMap.class)) {
-            return new ConcurrentHashMap<>();
-        }
-
-        if (clazz.isAssignableFrom(Set.class)) {
-            return new TreeSet<>();
-        }
-
-        if (clazz.isAssignableFrom(Date.class)) {
-            return new Date();
-        }
-
-        if (clazz.isAssignableFrom(LocalDate.class)) {
-            return LocalDate.now();
-        }
-
-        if (clazz.isAssignableFrom(LocalDateTime.class)) {
-            return LocalDateTime.of(2000, 10, 1, 0, 0);
-        }
-
-        if (clazz.isAssignableFrom(LocalTime.class)) {
-            return LocalTime.of(0, 0);
+                return ValueBuilder.setStandardValues(clazz);
         }
-
-        if (clazz.isAssignableFrom(OffsetDateTime.class)) {
-            return OffsetDateTime.of(2000, 10, 1, 0, 0, 0, 0, ZoneOffset.MIN);
-        }
-
-        if (clazz.isAssignableFrom(ZonedDateTime.class)) {
-            return ZonedDateTime.of(LocalDateTime.of(2020, 11, 16, 10, 26, 00, 01), ZoneId.of("UTC"));
-        }
-
-        if (clazz == Logger.class) {
-            return LoggerFactory.getLogger(clazz);
-        }
-
-        if (clazz.isEnum()) {
-            return clazz.getEnumConstants()[0];
-        }
-
-        // XXX Add additional rules here
-
-        // XXX Don't fail this...until alternative solution is determined
-        ValueBuilder.logger.warn(
-                "Unable to build value for class '{}', please raise ticket with JavaBeanTester for desired support.",
-                clazz.getName());
-        return null;
     }
 
     /**
@@ -0,0 +1,105 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.enums.LoadType;
+
+import java.lang.reflect.Array;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Value Pool holds the values of strings, primitives and their wrappers for a load type. The values are immutable so
+ * they are computed once and shared, while arrays are mutable and therefore created on each hand out.
+ */
+final class ValuePool {
+
+    /** The Constant TYPES with pooled values. */
+    private static final Class<?>[] TYPES = { String.class, boolean.class, Boolean.class, int.class, Integer.class,
+            long.class, Long.class, double.class, Double.class, float.class, Float.class, char.class, Character.class,
+            byte.class, Byte.class };
+
+    /** The Constant POOLS. */
+    private static final Map<LoadType, ValuePool> POOLS = new EnumMap<>(LoadType.class);
+
+    static {
+        for (final LoadType loadType : LoadType.values()) {
+            ValuePool.POOLS.put(loadType, new ValuePool(loadType));
+        }
+    }
+
+    /** The values. */
+    private final Map<Class<?>, Object> values;
+
+    /** The array length. */
+    private final int arrayLength;
+
+    /**
+     * Instantiates a new value pool.
+     *
+     * @param loadType
+     *            the load type
+     */
+    private ValuePool(final LoadType loadType) {
+        final Map<Class<?>, Object> pooled = new IdentityHashMap<>(ValuePool.TYPES.length);
+        for (final Class<?> type : ValuePool.TYPES) {
+            pooled.put(type, ValueBuilder.setValues(type, loadType));
+        }
+        this.values = Collections.unmodifiableMap(pooled);
+        this.arrayLength = Array.getLength(ValueBuilder.setValues(Object[].class, loadType));
+    }
+
+    /**
+     * Gets the pool of the load type.
+     *
+     * @param loadType
+     *            the load type
+     *
+     * @return the value pool
+     */
+    static ValuePool of(final LoadType loadType) {
+        return ValuePool.POOLS.get(loadType);
+    }
+
+    /**
+     * Checks if the pools supply values of the class.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return true, if successful
+     */
+    static boolean supports(final Class<?> clazz) {
+        return clazz.isArray() || ValuePool.of(LoadType.STANDARD_DATA).values.containsKey(clazz);
+    }
+
+    /**
+     * Gets the value of the class.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the value, or null if none
+     */
+    Object get(final Class<?> clazz) {
+        if (clazz.isArray()) {
+            return Array.newInstance(clazz.getComponentType(), this.arrayLength);
+        }
+        return this.values.get(clazz);
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.enums.LoadType;
+
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Value Strategies resolves the {@link ValueStrategy} for a type. Immutable values are shared constants and mutable
+ * values are created on each hand out. Resolution walks the registered and built-in rules once per type and is then
+ * memoized, so each later lookup is a single class value read.
+ */
+final class ValueStrategies {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValueStrategies.class);
+
+    /** The Constant REGISTERED strategies, matched on exact type. */
+    private static final ConcurrentMap<Class<?>, ValueStrategy> REGISTERED = new ConcurrentHashMap<>();
+
+    /**
+     * The Constant EXACT strategies, matched on exact type ahead of the no-arg constructor rule. {@link Date} is built
+     * from the clock rather than tested as a bean, which avoids its month normalization.
+     */
+    private static final Map<Class<?>, ValueStrategy> EXACT = new HashMap<>();
+
+    /**
+     * The Constant ASSIGNABLE strategies, matched in order when the requested type is assignable from the key (so an
+     * interface such as {@link List} resolves to a concrete value).
+     */
+    private static final Map<Class<?>, ValueStrategy> ASSIGNABLE = new LinkedHashMap<>();
+
+    /** The Constant UNRESOLVED. */
+    private static final ValueStrategy UNRESOLVED = (clazz, loadType, valueBuilder) -> {
+        // XXX Don't fail this...until alternative solution is determined
+        ValueStrategies.LOGGER.warn(
+                "Unable to build value for class '{}', please raise ticket with JavaBeanTester for desired support.",
+                clazz.getName());
+        return null;
+    };
+
+    /** The Constant SIMPLE, for strings, arrays, primitives and their wrappers. */
+    private static final ValueStrategy SIMPLE = (clazz, loadType, valueBuilder) -> ValuePool.of(loadType).get(clazz);
+
+    /** The Constant UUID_VALUE. */
+    private static final UUID UUID_VALUE = UUID.fromString("00000000-0000-0000-0000-000123456789");
+
+    /** The resolved strategies, replaced whenever registrations change. */
+    private static volatile ClassValue<ValueStrategy> resolved = ValueStrategies.newCache();
+
+    static {
+        ValueStrategies.EXACT.put(Date.class, ValueStrategies
+                .nullable((clazz, loadType, valueBuilder) -> new Date(valueBuilder.getClock().millis())));
+
+        ValueStrategies.ASSIGNABLE.put(BigDecimal.class, (clazz, loadType, valueBuilder) -> BigDecimal.ONE);
+        ValueStrategies.ASSIGNABLE.put(UUID.class, (clazz, loadType, valueBuilder) -> ValueStrategies.UUID_VALUE);
+        ValueStrategies.ASSIGNABLE.put(Instant.class, ValueStrategies.fromClock(Clock::instant));
+        ValueStrategies.ASSIGNABLE.put(List.class, (clazz, loadType, valueBuilder) -> new ArrayList<>());
+        ValueStrategies.ASSIGNABLE.put(Map.class, (clazz, loadType, valueBuilder) -> new HashMap<>());
+        ValueStrategies.ASSIGNABLE.put(ConcurrentMap.class,
+                (clazz, loadType, valueBuilder) -> new ConcurrentHashMap<>());
+        ValueStrategies.ASSIGNABLE.put(Set.class, (clazz, loadType, valueBuilder) -> new TreeSet<>());
+        ValueStrategies.ASSIGNABLE.put(Date.class,
+                (clazz, loadType, valueBuilder) -> new Date(valueBuilder.getClock().millis()));
+        ValueStrategies.ASSIGNABLE.put(LocalDate.class, ValueStrategies.fromClock(LocalDate::now));
+        ValueStrategies.ASSIGNABLE.put(LocalDateTime.class, ValueStrategies.fromClock(LocalDateTime::now));
+        ValueStrategies.ASSIGNABLE.put(LocalTime.class, ValueStrategies.fromClock(LocalTime::now));
+        ValueStrategies.ASSIGNABLE.put(OffsetDateTime.class, ValueStrategies.fromClock(OffsetDateTime::now));
+        ValueStrategies.ASSIGNABLE.put(ZonedDateTime.class, ValueStrategies.fromClock(ZonedDateTime::now));
+    }
+
+    /**
+     * Prevent Instantiation of value strategies.
+     */
+    private ValueStrategies() {
+        // Prevent Instantiation
+    }
+
+    /**
+     * Strategy building a time value from the clock of the value builder. The value of the default clock is built once
+     * and shared.
+     *
+     * @param factory
+     *            the factory of the value from a clock
+     *
+     * @return the value strategy
+     */
+    private static ValueStrategy fromClock(final Function<Clock, ?> factory) {
+        final Object defaultValue = factory.apply(ValueBuilder.DEFAULT_CLOCK);
+        return (clazz, loadType, valueBuilder) -> valueBuilder.getClock() == ValueBuilder.DEFAULT_CLOCK ? defaultValue
+                : factory.apply(valueBuilder.getClock());
+    }
+
+    /**
+     * Gets the strategy for the class.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the value strategy
+     */
+    static ValueStrategy of(final Class<?> clazz) {
+        return ValueStrategies.resolved.get(clazz);
+    }
+
+    /**
+     * Register a strategy for the exact type, replacing any previously registered.
+     *
+     * @param type
+     *            the type
+     * @param strategy
+     *            the strategy
+     */
+    static void register(final Class<?> type, final ValueStrategy strategy) {
+        ValueStrategies.REGISTERED.put(type, strategy);
+        ValueStrategies.resolved = ValueStrategies.newCache();
+    }
+
+    /**
+     * Unregister the strategy for the exact type.
+     *
+     * @param type
+     *            the type
+     */
+    static void unregister(final Class<?> type) {
+        if (ValueStrategies.REGISTERED.remove(type) != null) {
+            ValueStrategies.resolved = ValueStrategies.newCache();
+        }
+    }
+
+    /**
+     * New cache.
+     *
+     * @return the class value
+     */
+    private static ClassValue<ValueStrategy> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected ValueStrategy computeValue(final Class<?> type) {
+                return ValueStrategies.resolve(type);
+            }
+        };
+    }
+
+    /**
+     * Resolve the strategy for the class.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the value strategy
+     */
+    private static ValueStrategy resolve(final Class<?> clazz) {
+        // First check for a registered strategy
+        final ValueStrategy registered = ValueStrategies.REGISTERED.get(clazz);
+        if (registered != null) {
+            return registered;
+        }
+
+        final ValueStrategy exact = ValueStrategies.EXACT.get(clazz);
+        if (exact != null) {
+            return exact;
+        }
+
+        // Next check for a no-arg constructor
+        if (clazz != String.class) {
+            for (final Constructor<?> ctr : clazz.getConstructors()) {
+                if (ctr.getParameterCount() == 0) {
+                    return (type, loadType, valueBuilder) -> valueBuilder.buildBean(type, ctr);
+                }
+            }
+        }
+
+        // Specific rules for common classes
+        if (ValuePool.supports(clazz)) {
+            return ValueStrategies.SIMPLE;
+        }
+
+        for (final Entry<Class<?>, ValueStrategy> entry : ValueStrategies.ASSIGNABLE.entrySet()) {
+            if (clazz.isAssignableFrom(entry.getKey())) {
+                return ValueStrategies.nullable(entry.getValue());
+            }
+        }
+
+        if (clazz == Logger.class) {
+            return ValueStrategies.nullable((type, loadType, valueBuilder) -> LoggerFactory.getLogger(type));
+        }
+
+        if (clazz.isEnum()) {
+            return ValueStrategies.nullable((type, loadType, valueBuilder) -> type.getEnumConstants()[0]);
+        }
+
+        // XXX Add additional rules here
+
+        return ValueStrategies.nullable(ValueStrategies.UNRESOLVED);
+    }
+
+    /**
+     * Wrap strategy so null test data always results in null.
+     *
+     * @param strategy
+     *            the strategy
+     *
+     * @return the value strategy
+     */
+    private static ValueStrategy nullable(final ValueStrategy strategy) {
+        return (clazz, loadType, valueBuilder) -> loadType == LoadType.NULL_DATA ? null
+                : strategy.build(clazz, loadType, valueBuilder);
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.enums.LoadType;
+
+/**
+ * Value Strategy builds test values for a type. Register strategies for domain types with
+ * {@link ValueBuilder#register(Class, ValueStrategy)}.
+ */
+@FunctionalInterface
+public interface ValueStrategy {
+
+    /**
+     * Builds the value.
+     *
+     * @param clazz
+     *            the clazz to build a value for
+     * @param loadType
+     *            the load type
+     * @param valueBuilder
+     *            the value builder requesting the value, for access to load data and nested values
+     *
+     * @return the value
+     */
+    Object build(Class<?> clazz, LoadType loadType, ValueBuilder valueBuilder);
+
+}
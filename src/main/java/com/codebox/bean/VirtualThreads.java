@@ -0,0 +1,82 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Virtual Threads creates executors running each task on a new virtual thread. Virtual threads require Java 21+ and are
+ * resolved reflectively so this library still runs on Java 11.
+ */
+final class VirtualThreads {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+    /** The Constant NEW_EXECUTOR, null when not supported by the runtime. */
+    private static final MethodHandle NEW_EXECUTOR;
+
+    static {
+        MethodHandle newExecutor = null;
+        try {
+            newExecutor = MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            VirtualThreads.LOGGER.trace("Virtual threads not supported by this runtime", e);
+        }
+        NEW_EXECUTOR = newExecutor;
+    }
+
+    /**
+     * Prevent Instantiation of virtual threads.
+     */
+    private VirtualThreads() {
+        // Prevent Instantiation
+    }
+
+    /**
+     * Checks if virtual threads are supported by the runtime.
+     *
+     * @return true, if supported
+     */
+    static boolean isSupported() {
+        return VirtualThreads.NEW_EXECUTOR != null;
+    }
+
+    /**
+     * New executor starting a virtual thread per task.
+     *
+     * @return the executor service, or null if virtual threads are not supported
+     */
+    static ExecutorService newExecutor() {
+        if (!VirtualThreads.isSupported()) {
+            return null;
+        }
+        try {
+            return (ExecutorService) VirtualThreads.NEW_EXECUTOR.invokeExact();
+        } catch (final Throwable e) {
+            VirtualThreads.LOGGER.debug("Unable to create virtual thread executor: {}", e.toString());
+            return null;
+        }
+    }
+
+}
@@ -14,6 +14,10 @@
  */
 package com.codebox.builders;
 
+import com.codebox.enums.ExtensionMode;
+import com.codebox.events.ExtensionGeneratedEvent;
+
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -52,6 +56,43 @@ public class ExtensionBuilder<T> {
      *             the cannot compile exception
      */
     public Class<?> generate(final Class<T> clazz) throws NotFoundException, CannotCompileException {
+        return this.generate(clazz, ExtensionMode.STANDARD);
+    }
+
+    /**
+     * Generate. With {@link ExtensionMode#HIDDEN} a new hidden class is defined on each call that can be unloaded once
+     * unreachable, falling back to standard generation when hidden classes are not available.
+     *
+     * @param clazz
+     *            the clazz
+     * @param mode
+     *            the extension mode
+     *
+     * @return the class
+     *
+     * @throws NotFoundException
+     *             the not found exception
+     * @throws CannotCompileException
+     *             the cannot compile exception
+     */
+    public Class<?> generate(final Class<T> clazz, final ExtensionMode mode)
+            throws NotFoundException, CannotCompileException {
+        final ExtensionGeneratedEvent event = new ExtensionGeneratedEvent();
+        event.begin();
+        if (mode == ExtensionMode.HIDDEN && HiddenClasses.isSupported()) {
+            // Use a dedicated pool so the class definition is not retained by the default pool
+            final ClassPool pool = new ClassPool(true);
+            try {
+                final Class<?> hidden = HiddenClasses.define(clazz,
+                        ExtensionBuilder.makeExtension(pool, clazz).toBytecode());
+                if (hidden != null) {
+                    return ExtensionBuilder.record(event, clazz, hidden, true);
+                }
+            } catch (final IOException e) {
+                throw new CannotCompileException(e);
+            }
+        }
+
         try {
             // If extension already recreated, return it
             return Class.forName(clazz.getName() + "Extension");
@@ -60,11 +101,58 @@ public class ExtensionBuilder<T> {
             ExtensionBuilder.LOGGER.trace("No extension exists, so create it", e);
         }
 
-        final ClassPool pool = ClassPool.getDefault();
+        return ExtensionBuilder.record(event, clazz,
+                ExtensionBuilder.makeExtension(ClassPool.getDefault(), clazz).toClass(), false);
+    }
+
+    /**
+     * Record the generated extension to flight recorder when enabled.
+     *
+     * @param event
+     *            the event begun before generation
+     * @param clazz
+     *            the clazz
+     * @param extension
+     *            the extension
+     * @param hidden
+     *            whether the extension is a hidden class
+     *
+     * @return the extension
+     */
+    private static Class<?> record(final ExtensionGeneratedEvent event, final Class<?> clazz, final Class<?> extension,
+            final boolean hidden) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setBeanClass(clazz.getName());
+            event.setExtensionClass(extension.getName());
+            event.setGenerator("Javassist");
+            event.setHidden(hidden);
+            event.commit();
+        }
+        return extension;
+    }
+
+    /**
+     * Make extension.
+     *
+     * @param pool
+     *            the pool
+     * @param clazz
+     *            the clazz
+     *
+     * @return the ct class
+     *
+     * @throws NotFoundException
+     *             the not found exception
+     * @throws CannotCompileException
+     *             the cannot compile exception
+     */
+    private static CtClass makeExtension(final ClassPool pool, final Class<?> clazz)
+            throws NotFoundException, CannotCompileException {
         final CtClass cc = pool.makeClass(clazz.getName() + "Extension");
 
         // add super class
-        cc.setSuperclass(ExtensionBuilder.resolveCtClass(clazz));
+        cc.setSuperclass(ExtensionBuilder.resolveCtClass(pool, clazz));
 
         final Map<String, Class<?>> properties = new HashMap<>();
         properties.put("jbExtension1", String.class);
@@ -75,7 +163,7 @@ public class ExtensionBuilder<T> {
         for (final Entry<String, Class<?>> entry : properties.entrySet()) {
 
             // Add field
-            cc.addField(new CtField(ExtensionBuilder.resolveCtClass(entry.getValue()), entry.getKey(), cc));
+            cc.addField(new CtField(ExtensionBuilder.resolveCtClass(pool, entry.getValue()), entry.getKey(), cc));
 
             // Add getter
             cc.addMethod(ExtensionBuilder.generateGetter(cc, entry.getKey(), entry.getValue()));
@@ -84,7 +172,7 @@ public class ExtensionBuilder<T> {
             cc.addMethod(ExtensionBuilder.generateSetter(cc, entry.getKey(), entry.getValue()));
         }
 
-        return cc.toClass();
+        return cc;
     }
 
     /**
@@ -157,6 +245,8 @@ public class ExtensionBuilder<T> {
     /**
      * Resolve ct class.
      *
+     * @param pool
+     *            the pool
      * @param clazz
      *            the clazz
      *
@@ -165,8 +255,8 @@ public class ExtensionBuilder<T> {
      * @throws NotFoundException
      *             the not found exception
      */
-    private static CtClass resolveCtClass(final Class<?> clazz) throws NotFoundException {
-        return ClassPool.getDefault().get(clazz.getName());
+    private static CtClass resolveCtClass(final ClassPool pool, final Class<?> clazz) throws NotFoundException {
+        return pool.get(clazz.getName());
     }
 
 }
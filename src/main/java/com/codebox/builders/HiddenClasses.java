@@ -0,0 +1,127 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.builders;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hidden Classes defines generated classes as hidden classes so they can be unloaded once unreachable, even while their
+ * defining class loader is still alive. Hidden classes require Java 15+ and are resolved reflectively so this library
+ * still runs on Java 11.
+ */
+public final class HiddenClasses {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(HiddenClasses.class);
+
+    /** The Constant DEFINE_HIDDEN_CLASS, null when not supported by the runtime. */
+    private static final MethodHandle DEFINE_HIDDEN_CLASS;
+
+    /** The Constant IS_HIDDEN, null when not supported by the runtime. */
+    private static final MethodHandle IS_HIDDEN;
+
+    /** The Constant NO_OPTIONS. */
+    private static final Object NO_OPTIONS;
+
+    static {
+        MethodHandle defineHiddenClass = null;
+        MethodHandle isHidden = null;
+        Object noOptions = null;
+        try {
+            final Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            noOptions = Array.newInstance(classOption, 0);
+            defineHiddenClass = MethodHandles.publicLookup()
+                    .findVirtual(MethodHandles.Lookup.class, "defineHiddenClass", MethodType
+                            .methodType(MethodHandles.Lookup.class, byte[].class, boolean.class, noOptions.getClass()))
+                    .asFixedArity();
+            isHidden = MethodHandles.publicLookup().findVirtual(Class.class, "isHidden",
+                    MethodType.methodType(boolean.class));
+        } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            HiddenClasses.LOGGER.trace("Hidden classes not supported by this runtime", e);
+        }
+        DEFINE_HIDDEN_CLASS = defineHiddenClass;
+        IS_HIDDEN = isHidden;
+        NO_OPTIONS = noOptions;
+    }
+
+    /**
+     * Prevent Instantiation of hidden classes.
+     */
+    private HiddenClasses() {
+        // Prevent Instantiation
+    }
+
+    /**
+     * Checks if hidden classes are supported by the runtime.
+     *
+     * @return true, if supported
+     */
+    public static boolean isSupported() {
+        return HiddenClasses.DEFINE_HIDDEN_CLASS != null;
+    }
+
+    /**
+     * Checks if the class is a hidden class. Hidden classes cannot be referenced by name, so generated code such as
+     * bean copiers cannot use them.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return true, if hidden
+     */
+    public static boolean isHidden(final Class<?> clazz) {
+        if (HiddenClasses.IS_HIDDEN == null) {
+            return false;
+        }
+        try {
+            return (boolean) HiddenClasses.IS_HIDDEN.invokeExact(clazz);
+        } catch (final Throwable e) {
+            HiddenClasses.LOGGER.trace("Unable to check hidden class '{}'", clazz.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Define a hidden class. The class bytes must name a class in the same package as the host.
+     *
+     * @param host
+     *            the host class, defining the package and class loader of the hidden class
+     * @param bytes
+     *            the class bytes
+     *
+     * @return the hidden class, or null if the hidden class could not be defined
+     */
+    public static Class<?> define(final Class<?> host, final byte[] bytes) {
+        if (!HiddenClasses.isSupported()) {
+            return null;
+        }
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(host, MethodHandles.lookup());
+            final MethodHandles.Lookup hidden = (MethodHandles.Lookup) HiddenClasses.DEFINE_HIDDEN_CLASS.invoke(lookup,
+                    bytes, false, HiddenClasses.NO_OPTIONS);
+            return hidden.lookupClass();
+        } catch (final Throwable e) {
+            HiddenClasses.LOGGER.debug("Unable to define hidden class for '{}': {}", host.getName(), e.toString());
+            return null;
+        }
+    }
+
+}
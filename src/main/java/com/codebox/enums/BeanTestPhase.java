@@ -0,0 +1,49 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.enums;
+
+/**
+ * The Enum BeanTestPhase, the phases of a bean test reported to listeners.
+ */
+public enum BeanTestPhase {
+
+    /** The getter setter phase. */
+    GETTER_SETTER,
+
+    /** The clear phase. */
+    CLEAR,
+
+    /** The constructors phase. */
+    CONSTRUCTORS,
+
+    /** The serializable phase. */
+    SERIALIZABLE,
+
+    /** The serialization budget phase. */
+    SERIALIZATION_BUDGET,
+
+    /** The accessor benchmark phase. */
+    ACCESSOR_BENCHMARK,
+
+    /** The hash distribution phase. */
+    HASH_DISTRIBUTION,
+
+    /** The equals phase. */
+    EQUALS,
+
+    /** The object methods profile phase. */
+    OBJECT_METHODS_PROFILE;
+
+}
@@ -0,0 +1,31 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.enums;
+
+/**
+ * The Enum ExecutionMode.
+ */
+public enum ExecutionMode {
+
+    /** The fork join mode, each bean is tested on the configured fork join pool. */
+    FORK_JOIN,
+
+    /**
+     * The virtual threads mode, each bean is tested on its own virtual thread (Java 21+). Falls back to the configured
+     * fork join pool when virtual threads are not available.
+     */
+    VIRTUAL_THREADS;
+
+}
@@ -0,0 +1,31 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.enums;
+
+/**
+ * The Enum ExtensionMode.
+ */
+public enum ExtensionMode {
+
+    /** The standard mode, extension is defined as a normal class and kept for the life of the class under test. */
+    STANDARD,
+
+    /**
+     * The hidden mode, extension is defined as a hidden class (Java 15+) that may be unloaded once no longer in use.
+     * Falls back to standard class definition when hidden classes are not available.
+     */
+    HIDDEN;
+
+}
@@ -28,8 +28,11 @@ public enum LoadType {
     /** The null data. */
     NULL_DATA,
 
-    /** The custom data. */
-    // TODO 1/12/2019 JWL Placeholder for customizing data load
+    /**
+     * The custom data, built by value strategies registered with
+     * {@link com.codebox.bean.ValueBuilder#register(Class, com.codebox.bean.ValueStrategy)} and standard data for any
+     * other type.
+     */
     CUSTOM_DATA;
 
 }
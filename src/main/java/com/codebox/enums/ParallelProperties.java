@@ -0,0 +1,28 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.enums;
+
+/**
+ * The Enum ParallelProperties.
+ */
+public enum ParallelProperties {
+
+    /** The on, properties are tested concurrently each on its own instance. */
+    ON,
+
+    /** The off. */
+    OFF;
+
+}
@@ -0,0 +1,62 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Class BeanTestEvent is recorded for the test of a bean class.
+ */
+@Name("com.codebox.BeanTest")
+@Label("Bean Test")
+@Category("JavaBean Tester")
+@Description("Test of a bean class")
+@StackTrace(false)
+public final class BeanTestEvent extends Event {
+
+    /** The bean class. */
+    @Label("Bean Class")
+    private String beanClass;
+
+    /** The passed. */
+    @Label("Passed")
+    private boolean passed;
+
+    /**
+     * Sets the bean class.
+     *
+     * @param beanClass
+     *            the new bean class
+     */
+    public void setBeanClass(final String beanClass) {
+        this.beanClass = beanClass;
+    }
+
+    /**
+     * Sets the passed.
+     *
+     * @param passed
+     *            the new passed
+     */
+    public void setPassed(final boolean passed) {
+        this.passed = passed;
+    }
+
+}
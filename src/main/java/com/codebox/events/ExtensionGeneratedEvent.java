@@ -0,0 +1,90 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Class ExtensionGeneratedEvent is recorded for each extension class generated for a bean.
+ */
+@Name("com.codebox.ExtensionGenerated")
+@Label("Extension Generated")
+@Category("JavaBean Tester")
+@Description("Extension class generated for a bean")
+@StackTrace(false)
+public final class ExtensionGeneratedEvent extends Event {
+
+    /** The bean class. */
+    @Label("Bean Class")
+    private String beanClass;
+
+    /** The extension class. */
+    @Label("Extension Class")
+    private String extensionClass;
+
+    /** The generator, either ByteBuddy or Javassist. */
+    @Label("Generator")
+    private String generator;
+
+    /** The hidden. */
+    @Label("Hidden")
+    private boolean hidden;
+
+    /**
+     * Sets the bean class.
+     *
+     * @param beanClass
+     *            the new bean class
+     */
+    public void setBeanClass(final String beanClass) {
+        this.beanClass = beanClass;
+    }
+
+    /**
+     * Sets the extension class.
+     *
+     * @param extensionClass
+     *            the new extension class
+     */
+    public void setExtensionClass(final String extensionClass) {
+        this.extensionClass = extensionClass;
+    }
+
+    /**
+     * Sets the generator.
+     *
+     * @param generator
+     *            the new generator
+     */
+    public void setGenerator(final String generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Sets the hidden.
+     *
+     * @param hidden
+     *            the new hidden
+     */
+    public void setHidden(final boolean hidden) {
+        this.hidden = hidden;
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Class ValueBuildEvent is recorded for each value built for a bean.
+ */
+@Name("com.codebox.ValueBuild")
+@Label("Value Build")
+@Category("JavaBean Tester")
+@Description("Value built for a bean, nested under load data")
+@StackTrace(false)
+public final class ValueBuildEvent extends Event {
+
+    /** The value class. */
+    @Label("Value Class")
+    private String valueClass;
+
+    /** The property, null when the value is not built for a property. */
+    @Label("Property")
+    private String property;
+
+    /** The load type. */
+    @Label("Load Type")
+    private String loadType;
+
+    /** The depth of nested value building, zero for a value built directly for the bean under test. */
+    @Label("Depth")
+    private int depth;
+
+    /**
+     * Sets the value class.
+     *
+     * @param valueClass
+     *            the new value class
+     */
+    public void setValueClass(final String valueClass) {
+        this.valueClass = valueClass;
+    }
+
+    /**
+     * Sets the property.
+     *
+     * @param property
+     *            the new property
+     */
+    public void setProperty(final String property) {
+        this.property = property;
+    }
+
+    /**
+     * Sets the load type.
+     *
+     * @param loadType
+     *            the new load type
+     */
+    public void setLoadType(final String loadType) {
+        this.loadType = loadType;
+    }
+
+    /**
+     * Sets the depth.
+     *
+     * @param depth
+     *            the new depth
+     */
+    public void setDepth(final int depth) {
+        this.depth = depth;
+    }
+
+}
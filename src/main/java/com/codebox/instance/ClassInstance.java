@@ -18,7 +18,6 @@ import com.codebox.bean.ValueBuilder;
 import com.codebox.enums.LoadData;
 import com.codebox.enums.LoadType;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 
@@ -43,55 +42,28 @@ public class ClassInstance<T> {
      */
     @SuppressWarnings("unchecked")
     public final T newInstance(final Class<T> clazz) {
-        // Try no-arg constructor first
-        for (final Constructor<?> constructor : clazz.getConstructors()) {
-            // Skip deprecated constructors
-            if (constructor.isAnnotationPresent(Deprecated.class)) {
-                continue;
-            }
-
-            // Find available no-arg constructor and return it
-            if (constructor.getParameterCount() == 0) {
-                try {
-                    return (T) constructor.newInstance((Object[]) null);
-                } catch (final InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                    Assertions.fail(String.format(
-                            "An exception was thrown while testing the class (new instance) '%s' with '%s': '%s'",
-                            constructor.getName(), Arrays.toString((Object[]) null), e.toString()));
-                }
-            }
+        // Resolved once per class, no-arg constructor first then any other constructor
+        final Instantiator instantiator = Instantiator.of(clazz);
+        if (instantiator.getConstructor() == null) {
+            return null;
         }
 
-        // Try any constructor
-        for (final Constructor<?> constructor : clazz.getConstructors()) {
-
-            // Skip deprecated constructors
-            if (constructor.isAnnotationPresent(Deprecated.class)) {
-                continue;
-            }
-
-            final Class<?>[] types = constructor.getParameterTypes();
-
-            final Object[] values = new Object[constructor.getParameterTypes().length];
-
-            // Load Data
-            for (int i = 0; i < values.length; i++) {
-                values[i] = this.buildValue(types[i], LoadType.STANDARD_DATA);
-            }
+        // Load Data
+        final Object[] values = instantiator.arguments(this);
 
-            try {
-                return (T) constructor.newInstance(values);
-            } catch (final InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                Assertions.fail(String.format(
-                        "An exception was thrown while testing the class (new instance) '%s' with '%s': '%s'",
-                        constructor.getName(), Arrays.toString(values), e.toString()));
-            }
+        try {
+            return (T) instantiator.newInstance(values);
+        } catch (final InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            Assertions.fail(
+                    String.format("An exception was thrown while testing the class (new instance) '%s' with '%s': '%s'",
+                            instantiator.getConstructor().getName(), Arrays.toString(values), e.toString()));
         }
         return null;
     }
 
     /**
-     * Builds the value.
+     * Builds the value of a constructor argument for {@link #newInstance(Class)}. Values of simple immutable types are
+     * built once per class unless this method is overridden.
      *
      * @param <R>
      *            the generic type
@@ -0,0 +1,243 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.instance;
+
+import com.codebox.bean.ValueBuilder;
+import com.codebox.enums.LoadData;
+import com.codebox.enums.LoadType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.UUID;
+
+/**
+ * Instantiator creates instances of a class through the constructor chosen for it. The constructor is resolved once per
+ * class and bound to a method handle. Argument values of simple immutable types are computed once and reused, while all
+ * other argument values are built for each instance through {@link ClassInstance#buildValue(Class, LoadType)}, so
+ * instances never share state and no bean is built while the instantiator is being resolved.
+ */
+final class Instantiator {
+
+    /** The Constant CACHE. */
+    private static final ClassValue<Instantiator> CACHE = new ClassValue<>() {
+        @Override
+        protected Instantiator computeValue(final Class<?> type) {
+            return new Instantiator(type);
+        }
+    };
+
+    /** The Constant INVOKER_TYPE. */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /** The constructor, null when the class has no usable constructor. */
+    private final Constructor<?> constructor;
+
+    /** The invoker, null when reflection must be used. */
+    private final MethodHandle invoker;
+
+    /** The parameter types. */
+    private final Class<?>[] types;
+
+    /** The argument template, holding immutable values. */
+    private final Object[] template;
+
+    /** The rebuild flags, set for arguments that must be built for each instance. */
+    private final boolean[] rebuild;
+
+    /**
+     * Instantiates a new instantiator.
+     *
+     * @param clazz
+     *            the clazz
+     */
+    private Instantiator(final Class<?> clazz) {
+        this.constructor = Instantiator.resolveConstructor(clazz);
+        if (this.constructor == null) {
+            this.invoker = null;
+            this.types = new Class<?>[0];
+            this.template = new Object[0];
+            this.rebuild = new boolean[0];
+            return;
+        }
+
+        this.types = this.constructor.getParameterTypes();
+        this.template = new Object[this.types.length];
+        this.rebuild = new boolean[this.types.length];
+        for (int i = 0; i < this.types.length; i++) {
+            // Only simple types are built here, as building a bean would run its tests inside the class value
+            final Object value = Instantiator.isSimple(this.types[i]) ? Instantiator.buildValue(this.types[i]) : null;
+            if (value == null) {
+                this.rebuild[i] = true;
+            } else {
+                this.template[i] = value;
+            }
+        }
+
+        this.invoker = Modifier.isAbstract(clazz.getModifiers()) ? null
+                : Instantiator.bind(this.constructor, this.types.length);
+    }
+
+    /**
+     * Gets the cached instantiator of the class.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the instantiator
+     */
+    static Instantiator of(final Class<?> clazz) {
+        return Instantiator.CACHE.get(clazz);
+    }
+
+    /**
+     * Gets the constructor.
+     *
+     * @return the constructor, or null if the class has no usable constructor
+     */
+    Constructor<?> getConstructor() {
+        return this.constructor;
+    }
+
+    /**
+     * Arguments for a new instance. Arguments are built through the class instance, and all of them are when it is a
+     * subclass that may override {@link ClassInstance#buildValue(Class, LoadType)}.
+     *
+     * @param classInstance
+     *            the class instance building the arguments
+     *
+     * @return the arguments, or null for a no-arg constructor
+     */
+    Object[] arguments(final ClassInstance<?> classInstance) {
+        if (this.types.length == 0) {
+            return null;
+        }
+        final boolean useTemplate = classInstance.getClass() == ClassInstance.class;
+        final Object[] values = this.template.clone();
+        for (int i = 0; i < values.length; i++) {
+            if (this.rebuild[i] || !useTemplate) {
+                values[i] = classInstance.buildValue(this.types[i], LoadType.STANDARD_DATA);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * New instance.
+     *
+     * @param values
+     *            the arguments from {@link #arguments(ClassInstance)}
+     *
+     * @return the object
+     *
+     * @throws InstantiationException
+     *             the instantiation exception
+     * @throws IllegalAccessException
+     *             the illegal access exception
+     * @throws InvocationTargetException
+     *             the invocation target exception
+     */
+    Object newInstance(final Object[] values)
+            throws InstantiationException, IllegalAccessException, InvocationTargetException {
+        if (this.invoker == null) {
+            return this.constructor.newInstance(values);
+        }
+        try {
+            return (Object) this.invoker.invokeExact(values == null ? new Object[0] : values);
+        } catch (final Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Resolve the constructor, preferring a no-arg constructor and skipping deprecated constructors.
+     *
+     * @param clazz
+     *            the clazz
+     *
+     * @return the constructor, or null if none
+     */
+    private static Constructor<?> resolveConstructor(final Class<?> clazz) {
+        Constructor<?> first = null;
+        for (final Constructor<?> ctor : clazz.getConstructors()) {
+            // Skip deprecated constructors
+            if (ctor.isAnnotationPresent(Deprecated.class)) {
+                continue;
+            }
+            if (ctor.getParameterCount() == 0) {
+                return ctor;
+            }
+            if (first == null) {
+                first = ctor;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Bind the constructor to a method handle taking the arguments as an array.
+     *
+     * @param ctor
+     *            the constructor
+     * @param parameterCount
+     *            the parameter count
+     *
+     * @return the method handle, or null when the constructor cannot be bound and reflection must be used
+     */
+    private static MethodHandle bind(final Constructor<?> ctor, final int parameterCount) {
+        try {
+            return MethodHandles.lookup().unreflectConstructor(ctor).asSpreader(Object[].class, parameterCount)
+                    .asType(Instantiator.INVOKER_TYPE);
+        } catch (final IllegalAccessException e) {
+            // Reflection reports the failure on use
+            return null;
+        }
+    }
+
+    /**
+     * Builds the value.
+     *
+     * @param type
+     *            the type
+     *
+     * @return the object
+     */
+    private static Object buildValue(final Class<?> type) {
+        final ValueBuilder valueBuilder = new ValueBuilder();
+        valueBuilder.setLoadData(LoadData.ON);
+        return valueBuilder.buildValue(type, LoadType.STANDARD_DATA);
+    }
+
+    /**
+     * Checks if the type is simple, so its value is immutable and built without building a bean.
+     *
+     * @param type
+     *            the type
+     *
+     * @return true, if is simple
+     */
+    private static boolean isSimple(final Class<?> type) {
+        return type.isPrimitive() || type == String.class || type == Boolean.class || type == Character.class
+                || type == Byte.class || type == Short.class || type == Integer.class || type == Long.class
+                || type == Float.class || type == Double.class || type == BigDecimal.class || type == BigInteger.class
+                || type == UUID.class || type.isEnum();
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.bean.BeanMetadata.BeanProperty;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class BeanMetadataTest.
+ */
+class BeanMetadataTest {
+
+    /**
+     * Metadata is cached per class.
+     */
+    @Test
+    void metadataCached() {
+        Assertions.assertSame(BeanMetadata.of(SampleBean.class), BeanMetadata.of(SampleBean.class));
+        Assertions.assertNull(BeanMetadata.of(SampleBean.class).getIntrospectionFailure());
+    }
+
+    /**
+     * Boolean wrapper with 'is' getter is resolved.
+     */
+    @Test
+    void booleanWrapperIsGetterResolved() {
+        final BeanProperty prop = BeanMetadata.of(SampleBean.class).getProperties().stream()
+                .filter(p -> "booleanWrapperIsSetter".equals(p.getName())).findFirst().orElse(null);
+        Assertions.assertNotNull(prop);
+        Assertions.assertTrue(prop.isTestable());
+        Assertions.assertEquals("isBooleanWrapperIsSetter", prop.getGetter().getName());
+        Assertions.assertEquals(Boolean.class, prop.getType());
+    }
+
+    /**
+     * Read only properties are not testable.
+     */
+    @Test
+    void readOnlyNotTestable() {
+        final BeanProperty prop = BeanMetadata.of(SampleBean.class).getProperties().stream()
+                .filter(p -> "string".equals(p.getName())).findFirst().orElse(null);
+        Assertions.assertNotNull(prop);
+        Assertions.assertFalse(prop.isTestable());
+        Assertions.assertFalse(prop.hasSetter());
+    }
+
+}
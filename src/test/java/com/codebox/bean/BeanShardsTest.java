@@ -0,0 +1,109 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class BeanShardsTest.
+ */
+class BeanShardsTest {
+
+    /** The Constant SHARD_COUNT. */
+    private static final int SHARD_COUNT = 4;
+
+    /**
+     * Every class is in exactly one shard, and shards are about even.
+     */
+    @Test
+    void hashPartition() {
+        final List<String> classNames = BeanShardsTest.classNames(1000);
+        final Set<String> seen = new HashSet<>();
+        for (int i = 0; i < BeanShardsTest.SHARD_COUNT; i++) {
+            final List<String> shard = BeanShards.select(classNames, i, BeanShardsTest.SHARD_COUNT,
+                    Collections.emptyMap());
+            Assertions.assertTrue(shard.size() > 200 && shard.size() < 300, "Shard size " + shard.size());
+            for (final String className : shard) {
+                Assertions.assertTrue(seen.add(className), className);
+            }
+        }
+        Assertions.assertEquals(classNames.size(), seen.size());
+    }
+
+    /**
+     * Weighted shards carry about the same load.
+     */
+    @Test
+    void weightedPartition() {
+        final List<String> classNames = BeanShardsTest.classNames(100);
+        final Map<String, Long> weights = new HashMap<>();
+        for (int i = 0; i < classNames.size(); i++) {
+            // A few very heavy beans
+            weights.put(classNames.get(i), i % 10 == 0 ? 1000L : 10L);
+        }
+
+        final Set<String> seen = new HashSet<>();
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (int i = 0; i < BeanShardsTest.SHARD_COUNT; i++) {
+            long load = 0;
+            for (final String className : BeanShards.select(classNames, i, BeanShardsTest.SHARD_COUNT, weights)) {
+                Assertions.assertTrue(seen.add(className), className);
+                load += weights.get(className);
+            }
+            min = Math.min(min, load);
+            max = Math.max(max, load);
+        }
+        Assertions.assertEquals(classNames.size(), seen.size());
+
+        // Shards differ by no more than the heaviest bean
+        Assertions.assertTrue(max - min <= 1000, "Shard loads from " + min + " to " + max);
+    }
+
+    /**
+     * Invalid shard is rejected.
+     */
+    @Test
+    void invalidShard() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> JavaBeanTester.scan("com.codebox.bean.scan").shard(2, 2));
+    }
+
+    /**
+     * Class names.
+     *
+     * @param count
+     *            the count
+     *
+     * @return the list
+     */
+    private static List<String> classNames(final int count) {
+        final List<String> classNames = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            classNames.add("com.acme.model.Bean" + i);
+        }
+        return classNames;
+    }
+
+}
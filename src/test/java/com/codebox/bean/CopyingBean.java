@@ -0,0 +1,47 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Class CopyingBean makes defensive copies in its accessors.
+ */
+public class CopyingBean {
+
+    /** The names. */
+    private List<String> names = new ArrayList<>();
+
+    /**
+     * Gets the names.
+     *
+     * @return the names
+     */
+    public List<String> getNames() {
+        return new ArrayList<>(this.names);
+    }
+
+    /**
+     * Sets the names.
+     *
+     * @param names
+     *            the new names
+     */
+    public void setNames(final List<String> names) {
+        this.names = new ArrayList<>(names);
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.builders.ExtensionBuilder;
+import com.codebox.enums.ExtensionMode;
+import com.codebox.events.BeanPhaseEvent;
+import com.codebox.events.BeanTestEvent;
+import com.codebox.events.ExtensionGeneratedEvent;
+import com.codebox.events.ValueBuildEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * The Class FlightRecorderEventsTest.
+ */
+class FlightRecorderEventsTest {
+
+    /**
+     * Events are recorded for the test, its phases, the values built and the extensions generated.
+     *
+     * @param tempDir
+     *            the temp dir
+     *
+     * @throws Exception
+     *             the exception
+     */
+    @Test
+    void eventsRecorded(@TempDir final Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("javabean-tester.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(BeanTestEvent.class);
+            recording.enable(BeanPhaseEvent.class);
+            recording.enable(ValueBuildEvent.class);
+            recording.enable(ExtensionGeneratedEvent.class);
+            recording.start();
+            JavaBeanTester.builder(SampleBean.class, ExtensionMode.HIDDEN).checkEquals().loadData().test();
+            new ExtensionBuilder<SampleBean>().generate(SampleBean.class, ExtensionMode.HIDDEN);
+            JavaBeanTester.builder(OuterBean.class).loadData().test();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> beanTests = FlightRecorderEventsTest.events(file, "com.codebox.BeanTest");
+        Assertions.assertTrue(
+                beanTests.stream().anyMatch(event -> SampleBean.class.getName().equals(event.getString("beanClass"))
+                        && event.getBoolean("passed")));
+
+        final List<String> phases = FlightRecorderEventsTest.events(file, "com.codebox.BeanPhase").stream()
+                .filter(event -> SampleBean.class.getName().equals(event.getString("beanClass")))
+                .map(event -> event.getString("phase")).collect(Collectors.toList());
+        Assertions.assertEquals(List.of("GETTER_SETTER", "CLEAR", "CONSTRUCTORS", "SERIALIZABLE", "EQUALS"), phases);
+
+        final List<RecordedEvent> values = FlightRecorderEventsTest.events(file, "com.codebox.ValueBuild");
+        Assertions.assertTrue(values.stream().anyMatch(event -> "inner".equals(event.getString("property"))));
+        Assertions.assertTrue(
+                values.stream()
+                        .anyMatch(event -> "name".equals(event.getString("property")) && event.getInt("depth") > 0),
+                "Values of nested beans are built under load data");
+
+        final List<String> generators = FlightRecorderEventsTest.events(file, "com.codebox.ExtensionGenerated").stream()
+                .filter(event -> SampleBean.class.getName().equals(event.getString("beanClass")))
+                .map(event -> event.getString("generator")).collect(Collectors.toList());
+        Assertions.assertTrue(generators.contains("ByteBuddy"));
+        Assertions.assertTrue(generators.contains("Javassist"));
+    }
+
+    /**
+     * Events of the type in the recording.
+     *
+     * @param file
+     *            the file
+     * @param name
+     *            the name of the event type
+     *
+     * @return the events
+     *
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    private static List<RecordedEvent> events(final Path file, final String name) throws IOException {
+        return RecordingFile.readAllEvents(file).stream().filter(event -> name.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The Class OuterBean.
+     */
+    public static class OuterBean {
+
+        /** The inner. */
+        private InnerBean inner;
+
+        /**
+         * Gets the inner.
+         *
+         * @return the inner
+         */
+        public InnerBean getInner() {
+            return this.inner;
+        }
+
+        /**
+         * Sets the inner.
+         *
+         * @param inner
+         *            the new inner
+         */
+        public void setInner(final InnerBean inner) {
+            this.inner = inner;
+        }
+    }
+
+    /**
+     * The Class InnerBean.
+     */
+    public static class InnerBean {
+
+        /** The name. */
+        private String name;
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Sets the name.
+         *
+         * @param name
+         *            the new name
+         */
+        public void setName(final String name) {
+            this.name = name;
+        }
+    }
+
+}
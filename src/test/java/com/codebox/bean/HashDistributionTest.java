@@ -0,0 +1,102 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.bean.scan.ScanBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class HashDistributionTest.
+ */
+class HashDistributionTest {
+
+    /**
+     * Table size matches a hash map holding the entries without resizing.
+     */
+    @Test
+    void tableSize() {
+        Assertions.assertEquals(1, HashDistribution.tableSize(0));
+        Assertions.assertEquals(4, HashDistribution.tableSize(3));
+        Assertions.assertEquals(16, HashDistribution.tableSize(12));
+        Assertions.assertEquals(32, HashDistribution.tableSize(13));
+    }
+
+    /**
+     * Hash codes differing only in high bits are spread into different buckets.
+     */
+    @Test
+    void spreadHighBits() {
+        final List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            keys.add(Integer.valueOf(i << 16));
+        }
+        final HashDistribution.Statistics statistics = HashDistribution.statistics(keys);
+        Assertions.assertEquals(0, statistics.getCollisions());
+        Assertions.assertEquals(64, statistics.getDistinctHashes());
+    }
+
+    /**
+     * Constant hash codes chain every instance in one bucket.
+     */
+    @Test
+    void constantHash() {
+        final List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(new Object() {
+                @Override
+                public int hashCode() {
+                    return 42;
+                }
+            });
+        }
+        final HashDistribution.Statistics statistics = HashDistribution.statistics(keys);
+        Assertions.assertEquals(99, statistics.getCollisions());
+        Assertions.assertEquals(100, statistics.getLongestChain());
+        Assertions.assertTrue(new HashDistribution(100, HashDistribution.DEFAULT_MAX_RATIO).isOver(statistics));
+    }
+
+    /**
+     * Lombok hash codes of varied instances are close to uniform.
+     */
+    @Test
+    void lombokBean() {
+        JavaBeanTester.builder(ScanBean.class).checkHashDistribution(1000).test();
+    }
+
+    /**
+     * Hash codes over a single property collide.
+     */
+    @Test
+    void weakHash() {
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(WeakHashBean.class).checkHashDistribution(1000).test());
+        Assertions.assertTrue(error.getMessage().contains("2 distinct hash codes"), error.getMessage());
+    }
+
+    /**
+     * Sample size must allow a collision.
+     */
+    @Test
+    void invalidSampleSize() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> JavaBeanTester.builder(ScanBean.class).checkHashDistribution(1));
+    }
+
+}
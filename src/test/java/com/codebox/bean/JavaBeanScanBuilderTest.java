@@ -0,0 +1,151 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.bean.ScanResult.ClassResult;
+import com.codebox.bean.scan.BrokenScanBean;
+import com.codebox.bean.scan.ScanBean;
+import com.codebox.enums.ExecutionMode;
+import com.codebox.enums.ExtensionMode;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The Class JavaBeanScanBuilderTest.
+ */
+class JavaBeanScanBuilderTest {
+
+    /**
+     * Scan finds candidates only.
+     */
+    @Test
+    void scanCandidates() {
+        Assertions.assertEquals(Arrays.asList(BrokenScanBean.class.getName(), ScanBean.class.getName()),
+                BeanScanner.scan("com.codebox.bean.scan", this.getClass().getClassLoader()));
+    }
+
+    /**
+     * Scan reports per class results.
+     */
+    @Test
+    void scanResults() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final ScanResult result = JavaBeanTester.scan("com.codebox.bean.scan").pool(pool)
+                    .configure(builder -> builder.checkEquals(false)).test();
+
+            Assertions.assertFalse(result.isPassed());
+            final List<String> failed = result.getFailures().stream().map(ClassResult::getClassName)
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(Arrays.asList(BrokenScanBean.class.getName()), failed);
+            Assertions.assertEquals(2, result.getResults().size());
+            Assertions.assertTrue(result.getResults().get(1).isPassed());
+            Assertions.assertTrue(result.getElapsedNanos() >= result.getResults().get(1).getElapsedNanos());
+            Assertions.assertThrows(AssertionError.class, result::assertPassed);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Scan on virtual threads, or on the pool when not supported, has the same results as on the pool.
+     */
+    @Test
+    void scanVirtualThreads() {
+        final ScanResult virtual = JavaBeanTester.scan("com.codebox.bean.scan")
+                .executionMode(ExecutionMode.VIRTUAL_THREADS).configure(builder -> builder.checkEquals(false)).test();
+        final ScanResult forkJoin = JavaBeanTester.scan("com.codebox.bean.scan").executionMode(ExecutionMode.FORK_JOIN)
+                .configure(builder -> builder.checkEquals(false)).test();
+        Assertions.assertEquals(JavaBeanScanBuilderTest.outcomes(forkJoin), JavaBeanScanBuilderTest.outcomes(virtual));
+    }
+
+    /**
+     * Outcome of each class of the scan, without timings.
+     *
+     * @param result
+     *            the result
+     *
+     * @return the outcomes
+     */
+    private static List<String> outcomes(final ScanResult result) {
+        return result.getResults().stream()
+                .map(classResult -> classResult.getClassName() + (classResult.isSkipped() ? " skipped"
+                        : classResult.isPassed() ? " passed" : " failed: " + classResult.getFailure().getMessage()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Scan dynamic tests hold one test per enabled phase.
+     */
+    @Test
+    void scanDynamicTests() {
+        final List<DynamicNode> nodes = JavaBeanTester.scan("com.codebox.bean.scan")
+                .configure(builder -> builder.checkEquals()).dynamicTests().collect(Collectors.toList());
+        Assertions.assertEquals(2, nodes.size());
+        Assertions.assertEquals(ScanBean.class.getName(), nodes.get(1).getDisplayName());
+        Assertions.assertEquals(Arrays.asList("getter/setter", "clear", "constructor", "serializable", "equals"),
+                ((DynamicContainer) nodes.get(1)).getChildren().map(DynamicNode::getDisplayName)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Incremental scan skips beans that passed unchanged and retests failures.
+     *
+     * @param directory
+     *            the directory
+     */
+    @Test
+    void scanIncremental(@TempDir final Path directory) {
+        final Path index = directory.resolve("incremental.properties");
+        final ScanResult first = JavaBeanTester.scan("com.codebox.bean.scan").incremental(index)
+                .configure(builder -> builder.checkEquals(false)).test();
+        Assertions.assertTrue(first.getResults().stream().noneMatch(ClassResult::isSkipped));
+
+        final ScanResult second = JavaBeanTester.scan("com.codebox.bean.scan").incremental(index)
+                .configure(builder -> builder.checkEquals(false)).test();
+        Assertions.assertEquals(Arrays.asList(false, true),
+                second.getResults().stream().map(ClassResult::isSkipped).collect(Collectors.toList()));
+        Assertions.assertEquals(1, second.getFailures().size());
+
+        // Configuration is part of the fingerprint
+        final ScanResult third = JavaBeanTester.scan("com.codebox.bean.scan").incremental(index)
+                .configure(builder -> builder.checkEquals(false).skip("count")).test();
+        Assertions.assertTrue(third.getResults().stream().noneMatch(ClassResult::isSkipped));
+    }
+
+    /**
+     * Fingerprint is stable and includes the extension mode.
+     */
+    @Test
+    void fingerprintIncludesExtensionMode() {
+        final String fingerprint = BeanFingerprint.of(JavaBeanTester.builder(SampleBean.class).worker(),
+                ExtensionMode.STANDARD);
+        Assertions.assertEquals(fingerprint,
+                BeanFingerprint.of(JavaBeanTester.builder(SampleBean.class).worker(), ExtensionMode.STANDARD));
+        Assertions.assertNotEquals(fingerprint,
+                BeanFingerprint.of(JavaBeanTester.builder(SampleBean.class).worker(), ExtensionMode.HIDDEN));
+    }
+
+}
@@ -14,15 +14,34 @@
  */
 package com.codebox.bean;
 
+import com.codebox.bean.scan.BrokenScanBean;
+import com.codebox.builders.HiddenClasses;
+import com.codebox.enums.BeanTestPhase;
+import com.codebox.enums.ExtensionMode;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
 import org.powermock.reflect.Whitebox;
 
 /**
@@ -267,6 +286,50 @@ class JavaBeanTesterTest {
         });
     }
 
+    /**
+     * Test_serialization budget.
+     */
+    @Test
+    void test_serializationBudget() {
+        JavaBeanTester.builder(SerializableBean.class).checkSerializationBudget(1024, 50_000_000).test();
+    }
+
+    /**
+     * Test_serialization budget exceeded reports field contributions.
+     */
+    @Test
+    void test_serializationBudgetExceeded() {
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(SerializableBean.class).checkSerializationBudget(10, 0).test());
+        Assertions.assertTrue(error.getMessage().startsWith(
+                "Serialized size of class '" + SerializableBean.class.getName() + "' is "), error.getMessage());
+        Assertions.assertTrue(error.getMessage().contains("string="), error.getMessage());
+    }
+
+    /**
+     * Test_serialization budget time exceeded reports field contributions.
+     */
+    @Test
+    void test_serializationBudgetTimeExceeded() {
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(SerializableBean.class).checkSerializationBudget(0, 1).test());
+        Assertions.assertTrue(
+                error.getMessage().startsWith(
+                        "Median serialization round trip of class '" + SerializableBean.class.getName() + "' is "),
+                error.getMessage());
+        Assertions.assertTrue(error.getMessage().contains("over budget of 1 ns"), error.getMessage());
+        Assertions.assertTrue(error.getMessage().contains("string="), error.getMessage());
+    }
+
+    /**
+     * Test_field contributions skip non serializable super classes and report unmeasurable values.
+     */
+    @Test
+    void test_fieldContributions() {
+        Assertions.assertEquals("name=1, payload=unmeasurable",
+                JavaBeanTesterWorker.fieldContributions(new SerializableChild()));
+    }
+
     /**
      * Test_clear.
      */
@@ -310,6 +373,235 @@ class JavaBeanTesterTest {
         Assertions.assertEquals(String.class, worker.getClazz());
     }
 
+    /**
+     * Test_extension cached.
+     */
+    @Test
+    void test_extensionCached() {
+        final JavaBeanTesterWorker<SampleBean, ?> first = Whitebox
+                .getInternalState(JavaBeanTester.builder(SampleBean.class), "worker");
+        final JavaBeanTesterWorker<SampleBean, ?> second = Whitebox
+                .getInternalState(JavaBeanTester.builder(SampleBean.class), "worker");
+        Assertions.assertSame(first.getExtension(), second.getExtension());
+        Assertions.assertEquals("com.codebox.bean.extended." + SampleBean.class.getName(),
+                first.getExtension().getName());
+    }
+
+    /**
+     * Test_full bean with hidden extension.
+     */
+    @Test
+    void test_fullBeanHiddenExtension() {
+        JavaBeanTester.builder(SampleBean.class, ExtensionMode.HIDDEN).checkEquals().loadData().test();
+    }
+
+    /**
+     * Test_hidden extensions defined on each call are unloaded once unreferenced.
+     */
+    @Test
+    void test_hiddenExtensionUnloaded() {
+        Assumptions.assumeTrue(HiddenClasses.isSupported(), "Hidden classes not supported");
+        final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        final long unloadedBefore = classLoading.getUnloadedClassCount();
+
+        // Bypass the cache so a new hidden class is defined on each iteration
+        final List<WeakReference<Class<?>>> extensions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final Class<?> extension = JavaBeanTester.generateExtension(SampleBean.class, ExtensionMode.HIDDEN);
+            Assertions.assertTrue(HiddenClasses.isHidden(extension));
+            extensions.add(new WeakReference<>(extension));
+        }
+        Assertions.assertEquals(100, extensions.stream().map(Reference::get).distinct().count());
+
+        // The cached hidden extension is only weakly held, including after a full test
+        JavaBeanTester.builder(SampleBean.class, ExtensionMode.HIDDEN).checkEquals().loadData().test();
+        extensions.add(new WeakReference<>(JavaBeanTester.extension(SampleBean.class, ExtensionMode.HIDDEN)));
+
+        Assertions.assertTrue(JavaBeanTesterTest.awaitCleared(extensions),
+                () -> String.format("%d hidden extensions were not unloaded",
+                        extensions.stream().filter(reference -> reference.get() != null).count()));
+        Assertions.assertTrue(classLoading.getUnloadedClassCount() >= unloadedBefore + 100, String
+                .format("Unloaded classes went from %d to %d", unloadedBefore, classLoading.getUnloadedClassCount()));
+    }
+
+    /**
+     * Test_standard extension stays loaded for the life of the JVM, the control for hidden extensions.
+     */
+    @Test
+    void test_standardExtensionRetained() {
+        final List<WeakReference<Class<?>>> extensions = new ArrayList<>();
+        extensions.add(new WeakReference<>(JavaBeanTester.extension(SampleBean.class, ExtensionMode.STANDARD)));
+
+        Assertions.assertFalse(JavaBeanTesterTest.awaitCleared(extensions), "Standard extension was unloaded");
+        Assertions.assertSame(extensions.get(0).get(),
+                JavaBeanTester.extension(SampleBean.class, ExtensionMode.STANDARD));
+    }
+
+    /**
+     * Collect garbage until the references are cleared.
+     *
+     * @param references
+     *            the references
+     *
+     * @return true, if all references were cleared
+     */
+    private static boolean awaitCleared(final List<? extends Reference<?>> references) {
+        for (int i = 0; i < 20; i++) {
+            System.gc();
+            if (references.stream().allMatch(reference -> reference.get() == null)) {
+                return true;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Test_hidden extension is defined in package of class.
+     */
+    @Test
+    void test_hiddenExtensionName() {
+        final JavaBeanTesterWorker<SampleBean, ?> worker = Whitebox
+                .getInternalState(JavaBeanTester.builder(SampleBean.class, ExtensionMode.HIDDEN), "worker");
+        if (HiddenClasses.isSupported()) {
+            Assertions.assertTrue(worker.getExtension().getName()
+                    .startsWith(SampleBean.class.getName() + "$JavaBeanTesterExtension/"));
+        } else {
+            Assertions.assertEquals("com.codebox.bean.extended." + SampleBean.class.getName(),
+                    worker.getExtension().getName());
+        }
+    }
+
+    /**
+     * Test_parallel properties.
+     */
+    @Test
+    void test_parallelProperties() {
+        JavaBeanTester.builder(SampleBean.class).checkEquals().loadData().parallelProperties().test();
+    }
+
+    /**
+     * Test_parallel properties load the instance as sequential testing does.
+     */
+    @Test
+    void test_parallelPropertiesInstance() {
+        final SampleBean sequential = new SampleBean("instance");
+        JavaBeanTester.builder(SampleBean.class).skip("emptyBean").testInstance(sequential);
+        final SampleBean parallel = new SampleBean("instance");
+        JavaBeanTester.builder(SampleBean.class).skip("emptyBean").parallelProperties().testInstance(parallel);
+        Assertions.assertEquals(sequential, parallel);
+    }
+
+    /**
+     * Test_parallel properties report the same failure as sequential testing does.
+     */
+    @Test
+    void test_parallelPropertiesFailure() {
+        final AssertionError sequential = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(BrokenScanBean.class).test());
+        final AssertionError parallel = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(BrokenScanBean.class).parallelProperties().test());
+        Assertions.assertEquals(sequential.getMessage(), parallel.getMessage());
+    }
+
+    /**
+     * Test_benchmark accessors reports a getter and setter cost for each testable property without thresholds.
+     */
+    @Test
+    void test_benchmarkAccessors() {
+        JavaBeanTester.builder(SampleBean.class).loadData().benchmarkAccessors().test();
+
+        final JavaBeanTesterWorker<SampleBean, Object> worker = new JavaBeanTesterWorker<>(SampleBean.class);
+        worker.setAccessorBenchmark(new AccessorBenchmark(0, 0));
+        final Map<String, List<Measurement.Cost>> costs = worker.accessorBenchmarkTest();
+        final List<String> testable = BeanMetadata.of(SampleBean.class).getProperties().stream()
+                .filter(BeanMetadata.BeanProperty::isTestable).map(BeanMetadata.BeanProperty::getName)
+                .collect(Collectors.toList());
+        Assertions.assertFalse(testable.isEmpty());
+        Assertions.assertEquals(testable, new ArrayList<>(costs.keySet()));
+        for (final Map.Entry<String, List<Measurement.Cost>> entry : costs.entrySet()) {
+            Assertions.assertEquals(2, entry.getValue().size(), entry.getKey());
+            for (final Measurement.Cost cost : entry.getValue()) {
+                // Net of the measuring loop, so a trivial accessor may cost nothing
+                Assertions.assertTrue(cost.getNanosPerOp() >= 0, entry.getKey() + " " + cost);
+            }
+        }
+    }
+
+    /**
+     * Test_benchmark accessors fails accessors over the thresholds.
+     */
+    @Test
+    void test_benchmarkAccessorsOverBudget() {
+        Assumptions.assumeTrue(BeanTestListeners.allocatedBytes() >= 0, "Allocated bytes not available");
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(CopyingBean.class).benchmarkAccessors(0, 1).test());
+        Assertions.assertTrue(error.getMessage().contains("get names"), error.getMessage());
+        Assertions.assertTrue(error.getMessage().contains("set names"), error.getMessage());
+    }
+
+    /**
+     * Test_listener receives each phase in order.
+     */
+    @Test
+    void test_listener() {
+        final List<BeanTestPhase> started = new ArrayList<>();
+        final List<BeanTestPhase> finished = new ArrayList<>();
+        JavaBeanTester.builder(SampleBean.class).checkEquals().loadData().listener(new BeanTestListener() {
+            @Override
+            public void phaseStarted(final Class<?> clazz, final BeanTestPhase phase) {
+                Assertions.assertEquals(SampleBean.class, clazz);
+                started.add(phase);
+            }
+
+            @Override
+            public void phaseFinished(final Class<?> clazz, final BeanTestPhase phase, final long elapsedNanos,
+                    final long allocatedBytes, final Throwable failure) {
+                Assertions.assertTrue(elapsedNanos >= 0);
+                Assertions.assertTrue(allocatedBytes >= -1);
+                Assertions.assertNull(failure);
+                finished.add(phase);
+            }
+        }).test();
+
+        final List<BeanTestPhase> expected = Arrays.asList(BeanTestPhase.GETTER_SETTER, BeanTestPhase.CLEAR,
+                BeanTestPhase.CONSTRUCTORS, BeanTestPhase.SERIALIZABLE, BeanTestPhase.EQUALS);
+        Assertions.assertEquals(expected, started);
+        Assertions.assertEquals(expected, finished);
+    }
+
+    /**
+     * Test_listener receives the failure of a phase.
+     */
+    @Test
+    void test_listenerFailure() {
+        final List<Throwable> failures = new ArrayList<>();
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(BrokenScanBean.class).listener(new BeanTestListener() {
+                    @Override
+                    public void phaseFinished(final Class<?> clazz, final BeanTestPhase phase, final long elapsedNanos,
+                            final long allocatedBytes, final Throwable failure) {
+                        failures.add(failure);
+                    }
+                }).test());
+        Assertions.assertEquals(Arrays.asList(error), failures);
+    }
+
+    /**
+     * Test_dynamic tests, one container per class holding one test per phase.
+     *
+     * @return the dynamic nodes
+     */
+    @TestFactory
+    Stream<DynamicNode> test_dynamicTests() {
+        return JavaBeanTester.dynamicTests(SampleBean.class, SampleValueObject.class);
+    }
+
     /**
      * Serialize.
      *
@@ -332,4 +624,28 @@ class JavaBeanTesterTest {
         return (T) new ObjectInputStream(bais).readObject();
     }
 
+    /**
+     * The Class NonSerializableParent holds a field that is never serialized.
+     */
+    public static class NonSerializableParent {
+
+        /** The lock. */
+        final Object lock = new Object();
+    }
+
+    /**
+     * The Class SerializableChild holds a field that cannot be serialized on its own.
+     */
+    public static class SerializableChild extends NonSerializableParent implements Serializable {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The name. */
+        String name;
+
+        /** The payload. */
+        Object payload = new Object();
+    }
+
 }
@@ -0,0 +1,123 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.bean.LifecycleIndex.LifecycleMethod;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class LifecycleIndexTest.
+ */
+class LifecycleIndexTest {
+
+    /**
+     * Declared lifecycle methods.
+     */
+    @Test
+    void declaredLifecycle() {
+        final LifecycleIndex index = LifecycleIndex.of(SampleBean.class);
+        Assertions.assertSame(index, LifecycleIndex.of(SampleBean.class));
+        Assertions.assertEquals(List.of("init"), LifecycleIndexTest.names(index.getPostConstructs()));
+        Assertions.assertEquals("clear", index.getDeclaredClear().getName());
+    }
+
+    /**
+     * Inherited lifecycle methods run super class first.
+     *
+     * @throws Exception
+     *             the exception
+     */
+    @Test
+    void inheritedLifecycle() throws Exception {
+        final LifecycleIndex index = LifecycleIndex.of(Child.class);
+        Assertions.assertEquals(List.of("parentInit", "childInit"),
+                LifecycleIndexTest.names(index.getPostConstructs()));
+
+        final Child child = new Child();
+        for (final LifecycleMethod method : index.getPostConstructs()) {
+            method.invoke(child);
+        }
+        Assertions.assertEquals(List.of("parent", "child"), child.calls);
+    }
+
+    /**
+     * Inherited reset methods are not tested by the clear phase.
+     */
+    @Test
+    void inheritedResetNotTested() {
+        Assertions.assertNull(LifecycleIndex.of(Child.class).getDeclaredClear());
+        // Child equals is identity, so testing reset would fail
+        new JavaBeanTesterWorker<>(Child.class).clearTest();
+    }
+
+    /**
+     * Names.
+     *
+     * @param methods
+     *            the methods
+     *
+     * @return the list
+     */
+    private static List<String> names(final List<LifecycleMethod> methods) {
+        return methods.stream().map(LifecycleMethod::getName).collect(Collectors.toList());
+    }
+
+    /**
+     * The Class Parent.
+     */
+    public static class Parent {
+
+        /** The calls. */
+        final List<String> calls = new ArrayList<>();
+
+        /**
+         * Parent init.
+         */
+        @PostConstruct
+        private void parentInit() {
+            this.calls.add("parent");
+        }
+
+        /**
+         * Reset.
+         */
+        public void reset() {
+            this.calls.clear();
+        }
+    }
+
+    /**
+     * The Class Child.
+     */
+    public static class Child extends Parent {
+
+        /**
+         * Child init.
+         */
+        @PostConstruct
+        void childInit() {
+            this.calls.add("child");
+        }
+    }
+
+}
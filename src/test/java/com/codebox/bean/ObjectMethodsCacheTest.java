@@ -0,0 +1,120 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.sf.cglib.beans.BeanCopier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ObjectMethodsCacheTest.
+ */
+class ObjectMethodsCacheTest {
+
+    /**
+     * The bean copier of a class is created once.
+     */
+    @Test
+    void copierReused() {
+        final Optional<BeanCopier> copier = ObjectMethodsCache.copier(SampleBean.class);
+        Assertions.assertTrue(copier.isPresent());
+        Assertions.assertSame(copier.get(), ObjectMethodsCache.copier(SampleBean.class).get());
+    }
+
+    /**
+     * EqualsVerifier runs once per class, so later runs of testObjectMethods make fewer equals calls.
+     */
+    @Test
+    void equalsVerifierRunsOnce() {
+        final int first = ObjectMethodsCacheTest.equalsCalls();
+        final int second = ObjectMethodsCacheTest.equalsCalls();
+        Assertions.assertTrue(first > second, String.format("%d equals calls then %d", first, second));
+        Assertions.assertEquals(second, ObjectMethodsCacheTest.equalsCalls());
+
+        final int before = CountingBean.EQUALS_CALLS.get();
+        ObjectMethodsCache.equalsVerifierFailure(CountingBean.class);
+        Assertions.assertEquals(before, CountingBean.EQUALS_CALLS.get());
+    }
+
+    /**
+     * A cached failure is reported again on the next run.
+     */
+    @Test
+    void failureReportedAgain() {
+        final Optional<AssertionError> failure = ObjectMethodsCache.equalsVerifierFailure(WeakHashBean.class);
+        Assertions.assertTrue(failure.isPresent());
+        Assertions.assertSame(failure.get(), ObjectMethodsCache.equalsVerifierFailure(WeakHashBean.class).get());
+    }
+
+    /**
+     * Equals calls made by a run of testObjectMethods.
+     *
+     * @return the equals calls
+     */
+    private static int equalsCalls() {
+        final int before = CountingBean.EQUALS_CALLS.get();
+        JavaBeanTester.builder(CountingBean.class).loadData().testObjectMethods();
+        return CountingBean.EQUALS_CALLS.get() - before;
+    }
+
+    /**
+     * The Class CountingBean counts calls to equals.
+     */
+    public static class CountingBean {
+
+        /** The Constant EQUALS_CALLS. */
+        static final AtomicInteger EQUALS_CALLS = new AtomicInteger();
+
+        /** The name. */
+        private String name;
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Sets the name.
+         *
+         * @param name
+         *            the new name
+         */
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            CountingBean.EQUALS_CALLS.incrementAndGet();
+            return obj != null && obj.getClass() == this.getClass()
+                    && Objects.equals(this.name, ((CountingBean) obj).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name);
+        }
+    }
+
+}
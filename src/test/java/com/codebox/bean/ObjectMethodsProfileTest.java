@@ -0,0 +1,192 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ObjectMethodsProfileTest.
+ */
+class ObjectMethodsProfileTest {
+
+    /**
+     * Lombok object methods grow linearly with the values of the graph.
+     */
+    @Test
+    void lombokBean() {
+        JavaBeanTester.builder(ItemsBean.class).profileObjectMethods().test();
+    }
+
+    /**
+     * A hash code comparing every pair of elements is flagged.
+     */
+    @Test
+    void quadraticHash() {
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(QuadraticHashBean.class).profileObjectMethods().test());
+        Assertions.assertTrue(error.getMessage().contains("hashCode grows as n^"), error.getMessage());
+        Assertions.assertFalse(error.getMessage().contains("toString grows as n^"), error.getMessage());
+    }
+
+    /**
+     * Allocation of toString is over a budget of one byte.
+     */
+    @Test
+    void allocationBudget() {
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(ItemsBean.class).profileObjectMethods(1).test());
+        Assertions.assertTrue(error.getMessage().contains("toString allocates"), error.getMessage());
+    }
+
+    /**
+     * Sized values fill collections and nested beans down to the depth.
+     */
+    @Test
+    void sizedValues() {
+        final SizedValueBuilder builder = new SizedValueBuilder(16, 3);
+        final ParentBean bean = builder.newBean(ParentBean.class, 0);
+        Assertions.assertEquals(16, bean.getItems().getItems().size());
+        Assertions.assertEquals(16, bean.getChildren().size());
+        Assertions.assertEquals(16, bean.getChildren().get(0).getItems().size());
+        Assertions.assertEquals("value15", bean.getChildren().get(0).getItems().get(15));
+        Assertions.assertTrue(builder.getNodes() > 16 * 16);
+    }
+
+    /**
+     * A point slower than the cap stops larger sizes, a quick point does not.
+     */
+    @Test
+    void pointCap() {
+        final ObjectMethodsProfile.Result result = new ObjectMethodsProfile.Result();
+        Assertions.assertTrue(result.measure(16, 1, 17, "value", "value"));
+        final SlowHash slow = new SlowHash();
+        Assertions.assertFalse(result.measure(64, 1, 65, slow, slow));
+    }
+
+    /**
+     * A single size has no growth to fit.
+     */
+    @Test
+    void noGrowth() {
+        final ObjectMethodsProfile.Result result = new ObjectMethodsProfile.Result();
+        result.measure(16, 1, 17, "value", "value");
+        Assertions.assertTrue(Double.isNaN(result.exponent(1)));
+        Assertions.assertTrue(new ObjectMethodsProfile(0).flags(result).isEmpty());
+        Assertions.assertTrue(result.toString().contains("n/a"), result.toString());
+    }
+
+    /**
+     * The Class ItemsBean.
+     */
+    @Data
+    public static class ItemsBean {
+
+        /** The name. */
+        private String name;
+
+        /** The items. */
+        private List<String> items = new ArrayList<>();
+    }
+
+    /**
+     * The Class ParentBean.
+     */
+    @Data
+    public static class ParentBean {
+
+        /** The items. */
+        private ItemsBean items;
+
+        /** The children. */
+        private List<ItemsBean> children;
+    }
+
+    /**
+     * The Class QuadraticHashBean hashes the items by comparing every pair of them.
+     */
+    public static class QuadraticHashBean {
+
+        /** The items. */
+        private List<String> items = new ArrayList<>();
+
+        /**
+         * Gets the items.
+         *
+         * @return the items
+         */
+        public List<String> getItems() {
+            return this.items;
+        }
+
+        /**
+         * Sets the items.
+         *
+         * @param items
+         *            the new items
+         */
+        public void setItems(final List<String> items) {
+            this.items = items;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof QuadraticHashBean && this.items.equals(((QuadraticHashBean) obj).items);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 0;
+            for (final String a : this.items) {
+                for (final String b : this.items) {
+                    hash = 31 * hash + a.compareTo(b);
+                }
+            }
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "QuadraticHashBean [items=" + this.items + "]";
+        }
+    }
+
+    /**
+     * The Class SlowHash hashes in a tenth of the point cap, over the cap for the twelve calls of a point.
+     */
+    static final class SlowHash {
+
+        @Override
+        public int hashCode() {
+            try {
+                Thread.sleep(ObjectMethodsProfile.POINT_NANOS / 10_000_000L);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 0;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj == this;
+        }
+    }
+
+}
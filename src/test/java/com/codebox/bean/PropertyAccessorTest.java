@@ -0,0 +1,143 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class PropertyAccessorTest.
+ */
+class PropertyAccessorTest {
+
+    /**
+     * Primitive round trip.
+     *
+     * @throws Exception
+     *             the exception
+     */
+    @Test
+    void primitiveRoundTrip() throws Exception {
+        final PropertyAccessor accessor = PropertyAccessor.compile(SampleBean.class.getMethod("getIntPrimitive"),
+                SampleBean.class.getMethod("setIntPrimitive", int.class));
+        final SampleBean bean = new SampleBean(null);
+        accessor.set(bean, Integer.valueOf(5));
+        Assertions.assertEquals(5, bean.getIntPrimitive());
+        Assertions.assertEquals(Integer.valueOf(5), accessor.get(bean));
+    }
+
+    /**
+     * Null into primitive is an illegal argument, just as with reflection.
+     *
+     * @throws Exception
+     *             the exception
+     */
+    @Test
+    void nullIntoPrimitive() throws Exception {
+        final PropertyAccessor accessor = PropertyAccessor.compile(SampleBean.class.getMethod("getIntPrimitive"),
+                SampleBean.class.getMethod("setIntPrimitive", int.class));
+        final SampleBean bean = new SampleBean(null);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> accessor.set(bean, null));
+    }
+
+    /**
+     * A value of another type is an illegal argument, just as with reflection.
+     *
+     * @throws Exception
+     *             the exception
+     */
+    @Test
+    void wrongValueType() throws Exception {
+        final PropertyAccessor accessor = PropertyAccessor.compile(SampleBean.class.getMethod("getIntPrimitive"),
+                SampleBean.class.getMethod("setIntPrimitive", int.class));
+        final SampleBean bean = new SampleBean(null);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> accessor.set(bean, "5"));
+    }
+
+    /**
+     * A bean of another type is an illegal argument, just as with reflection.
+     *
+     * @throws Exception
+     *             the exception
+     */
+    @Test
+    void wrongBeanType() throws Exception {
+        final PropertyAccessor accessor = PropertyAccessor.compile(SampleBean.class.getMethod("getIntPrimitive"),
+                SampleBean.class.getMethod("setIntPrimitive", int.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> accessor.get("bean"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> accessor.set("bean", Integer.valueOf(5)));
+    }
+
+    /**
+     * A primitive widened by reflection is widened too.
+     *
+     * @throws Exception
+     *             the exception
+     */
+    @Test
+    void widening() throws Exception {
+        final PropertyAccessor accessor = PropertyAccessor.compile(SampleBean.class.getMethod("getLongPrimitive"),
+                SampleBean.class.getMethod("setLongPrimitive", long.class));
+        final SampleBean bean = new SampleBean(null);
+        accessor.set(bean, Integer.valueOf(5));
+        Assertions.assertEquals(5L, bean.getLongPrimitive());
+    }
+
+    /**
+     * A failure inside the setter is still an invocation target exception.
+     *
+     * @throws Exception
+     *             the exception
+     */
+    @Test
+    void setterFailure() throws Exception {
+        final PropertyAccessor accessor = PropertyAccessor.compile(FailingBean.class.getMethod("getName"),
+                FailingBean.class.getMethod("setName", String.class));
+        final InvocationTargetException e = Assertions.assertThrows(InvocationTargetException.class,
+                () -> accessor.set(new FailingBean(), null));
+        Assertions.assertTrue(e.getCause() instanceof NullPointerException);
+    }
+
+    /**
+     * The Class FailingBean rejects a null name.
+     */
+    public static class FailingBean {
+
+        /** The name. */
+        private String name = "";
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Sets the name.
+         *
+         * @param name
+         *            the new name
+         */
+        public void setName(final String name) {
+            this.name = name.trim();
+        }
+    }
+
+}
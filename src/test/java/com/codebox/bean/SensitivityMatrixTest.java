@@ -0,0 +1,235 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.bean.scan.ScanBean;
+import com.codebox.enums.CheckSensitivity;
+
+import java.util.Objects;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class SensitivityMatrixTest.
+ */
+class SensitivityMatrixTest {
+
+    /**
+     * Lombok equals and hashCode use every property.
+     */
+    @Test
+    void lombokBean() {
+        final ScanBean instance = new ScanBean();
+        instance.setName("name");
+        instance.setCount(1);
+        final ScanBean expected = new ScanBean();
+        expected.setName("name");
+        expected.setCount(1);
+
+        final SensitivityMatrix matrix = SensitivityMatrixTest.sensitiveWorker(ScanBean.class).equalsTests(instance,
+                expected);
+        Assertions.assertFalse(matrix.isFlagged(), matrix.toString());
+        Assertions.assertEquals(
+                String.format("%s%n  property  equals  hashCode%n  count     X       X%n" + "  name      X       X",
+                        ScanBean.class.getName()),
+                matrix.toString());
+    }
+
+    /**
+     * Sensitivity is checked by the equals phase of a loaded test.
+     */
+    @Test
+    void equalsPhase() {
+        JavaBeanTester.builder(ScanBean.class).checkEquals().loadData().checkSensitivity().test();
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(WeakHashBean.class).checkEquals().loadData().checkSensitivity().test());
+        Assertions.assertTrue(error.getMessage().contains("collision magnets"), error.getMessage());
+    }
+
+    /**
+     * Properties in equals but not in hashCode are collision magnets.
+     */
+    @Test
+    void collisionMagnets() {
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(WeakHashBean.class).checkSensitivity()
+                        .testEquals(SensitivityMatrixTest.weakHashBean(), SensitivityMatrixTest.weakHashBean()));
+        Assertions.assertTrue(error.getMessage().contains("collision magnets [count, name] and contract violations []"),
+                error.getMessage());
+    }
+
+    /**
+     * Properties in hashCode but not in equals violate the contract.
+     */
+    @Test
+    void contractViolations() {
+        final HashOnlyBean instance = new HashOnlyBean();
+        instance.setName("name");
+        final HashOnlyBean expected = new HashOnlyBean();
+        expected.setName("name");
+
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> SensitivityMatrixTest.sensitiveWorker(HashOnlyBean.class).equalsTests(instance, expected));
+        Assertions.assertTrue(error.getMessage().contains("contract violations [count]"), error.getMessage());
+        Assertions.assertTrue(error.getMessage().contains("contract violation"), error.getMessage());
+    }
+
+    /**
+     * hashCode of mutated instances is not called unless sensitivity is checked, so a null-unsafe hashCode behind a
+     * null-safe equals still passes.
+     */
+    @Test
+    void nullUnsafeHashCode() {
+        final NullUnsafeHashBean instance = new NullUnsafeHashBean();
+        instance.setName("name");
+        final NullUnsafeHashBean expected = new NullUnsafeHashBean();
+        expected.setName("name");
+
+        JavaBeanTester.builder(NullUnsafeHashBean.class).testEquals(instance, expected);
+        final SensitivityMatrix matrix = new JavaBeanTesterWorker<>(NullUnsafeHashBean.class).equalsTests(instance,
+                expected);
+        Assertions.assertEquals(String.format("%s%n  property  equals  hashCode%n  name      X       ?",
+                NullUnsafeHashBean.class.getName()), matrix.toString());
+    }
+
+    /**
+     * Worker checking sensitivity.
+     *
+     * @param <T>
+     *            the generic type
+     * @param clazz
+     *            the clazz
+     *
+     * @return the java bean tester worker
+     */
+    private static <T> JavaBeanTesterWorker<T, Object> sensitiveWorker(final Class<T> clazz) {
+        final JavaBeanTesterWorker<T, Object> worker = new JavaBeanTesterWorker<>(clazz);
+        worker.setCheckSensitivity(CheckSensitivity.ON);
+        return worker;
+    }
+
+    /**
+     * Weak hash bean.
+     *
+     * @return the weak hash bean
+     */
+    private static WeakHashBean weakHashBean() {
+        final WeakHashBean bean = new WeakHashBean();
+        bean.setName("name");
+        bean.setCount(1);
+        bean.setActive(true);
+        return bean;
+    }
+
+    /**
+     * The Class HashOnlyBean hashes a property left out of equals.
+     */
+    public static class HashOnlyBean {
+
+        /** The name. */
+        private String name;
+
+        /** The count. */
+        private int count;
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Sets the name.
+         *
+         * @param name
+         *            the new name
+         */
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Gets the count.
+         *
+         * @return the count
+         */
+        public int getCount() {
+            return this.count;
+        }
+
+        /**
+         * Sets the count.
+         *
+         * @param count
+         *            the new count
+         */
+        public void setCount(final int count) {
+            this.count = count;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof HashOnlyBean && Objects.equals(this.name, ((HashOnlyBean) obj).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, Integer.valueOf(this.count));
+        }
+    }
+
+    /**
+     * The Class NullUnsafeHashBean has a null-safe equals and a null-unsafe hashCode.
+     */
+    public static class NullUnsafeHashBean {
+
+        /** The name. */
+        private String name;
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Sets the name.
+         *
+         * @param name
+         *            the new name
+         */
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof NullUnsafeHashBean && Objects.equals(this.name, ((NullUnsafeHashBean) obj).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.name.hashCode();
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class SerializableGraphTest.
+ */
+class SerializableGraphTest {
+
+    /**
+     * Serializable graph without problems.
+     */
+    @Test
+    void serializableGraph() {
+        Assertions.assertEquals(Collections.emptyList(), SerializableGraph.problems(SerializableBean.class));
+        Assertions.assertEquals(Collections.emptyList(), SerializableGraph.problems(NonSerializableBean.class));
+    }
+
+    /**
+     * Every problem is reported at once, including null fields, generic arguments and nested beans.
+     */
+    @Test
+    void problemsReported() {
+        Assertions.assertEquals(
+                Arrays.asList(Child.class.getName() + ".value (" + Value.class.getName() + ")",
+                        Parent.class.getName() + ".values (" + Value.class.getName() + ")",
+                        Parent.class.getName() + ".valuesByName (" + Value.class.getName() + ")"),
+                SerializableGraph.problems(Parent.class));
+    }
+
+    /**
+     * Checking serializable fails on a null field the round trip misses.
+     */
+    @Test
+    void checkSerializableFailsOnNullField() {
+        final AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> JavaBeanTester.builder(Child.class).checkSerializable().test());
+        Assertions.assertEquals("Class '" + Child.class.getName() + "' has fields that are not serializable: "
+                + String.join(", ", SerializableGraph.problems(Child.class)), error.getMessage());
+        Assertions.assertEquals(3, SerializableGraph.problems(Child.class).size());
+    }
+
+    /**
+     * The Class Value is not serializable.
+     */
+    public static class Value {
+        // Not serializable
+    }
+
+    /**
+     * The Class Child.
+     */
+    public static class Child implements Serializable {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The value, left null. */
+        private Value value;
+
+        /** The transient value, not serialized. */
+        private transient Value transientValue;
+
+        /** The parent, making a cycle. */
+        private Parent parent;
+
+        /** The object, which cannot be judged. */
+        private Object object;
+    }
+
+    /**
+     * The Class Parent.
+     */
+    public static class Parent implements Serializable {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The child. */
+        private Child child;
+
+        /** The values. */
+        private List<Value> values;
+
+        /** The values by name. */
+        private Map<String, ? extends Value> valuesByName;
+    }
+
+}
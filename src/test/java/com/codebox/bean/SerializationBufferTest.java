@@ -0,0 +1,102 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class SerializationBufferTest.
+ */
+class SerializationBufferTest {
+
+    /**
+     * Buffer is reused and read in place.
+     *
+     * @throws IOException
+     *             Signals that an I/O exception has occurred.
+     */
+    @Test
+    void bufferReused() throws IOException {
+        final SerializationBuffer buffer = SerializationBuffer.acquire();
+        buffer.write(new byte[] { 1, 2, 3 });
+        try (InputStream input = buffer.toInputStream()) {
+            Assertions.assertArrayEquals(new byte[] { 1, 2, 3 }, input.readAllBytes());
+        }
+        buffer.release();
+
+        final SerializationBuffer again = SerializationBuffer.acquire();
+        Assertions.assertSame(buffer, again);
+        Assertions.assertEquals(0, again.size());
+        again.release();
+    }
+
+    /**
+     * Reentrant use gets a buffer of its own.
+     */
+    @Test
+    void bufferReentrant() {
+        final SerializationBuffer outer = SerializationBuffer.acquire();
+        final SerializationBuffer inner = SerializationBuffer.acquire();
+        Assertions.assertNotSame(outer, inner);
+        inner.release();
+        outer.release();
+    }
+
+    /**
+     * A buffer released by one thread is reused by another, as beans tested on virtual threads each run on a new
+     * thread.
+     *
+     * @throws InterruptedException
+     *             the interrupted exception
+     */
+    @Test
+    void bufferSharedAcrossThreads() throws InterruptedException {
+        // Drain the pool so the only free buffer is the one released below
+        final List<SerializationBuffer> held = new ArrayList<>();
+        for (int i = 0; i < SerializationBuffer.SLOTS; i++) {
+            held.add(SerializationBuffer.acquire());
+        }
+        final SerializationBuffer released = held.remove(0);
+        released.release();
+
+        final AtomicReference<SerializationBuffer> acquired = new AtomicReference<>();
+        final Thread thread = new Thread(() -> acquired.set(SerializationBuffer.acquire()));
+        thread.start();
+        thread.join();
+        Assertions.assertSame(released, acquired.get());
+
+        acquired.get().release();
+        held.forEach(SerializationBuffer::release);
+    }
+
+    /**
+     * Large buffers are not retained.
+     */
+    @Test
+    void largeBufferDropped() {
+        final SerializationBuffer buffer = SerializationBuffer.acquire();
+        buffer.write(new byte[2 * 1024 * 1024], 0, 2 * 1024 * 1024);
+        buffer.release();
+        Assertions.assertTrue(buffer.capacity() < 1024 * 1024);
+    }
+
+}
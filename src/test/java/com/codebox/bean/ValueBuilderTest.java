@@ -0,0 +1,138 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import com.codebox.enums.LoadData;
+import com.codebox.enums.LoadType;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ValueBuilderTest.
+ */
+class ValueBuilderTest {
+
+    /** The value builder. */
+    private ValueBuilder valueBuilder;
+
+    /**
+     * Inits the.
+     */
+    @BeforeEach
+    void init() {
+        this.valueBuilder = new ValueBuilder();
+        this.valueBuilder.setLoadData(LoadData.OFF);
+    }
+
+    /**
+     * Clean up.
+     */
+    @AfterEach
+    void cleanUp() {
+        ValueBuilder.unregister(BigDecimal.class);
+    }
+
+    /**
+     * Built in values.
+     */
+    @Test
+    void builtInValues() {
+        Assertions.assertEquals("TEST_VALUE", this.valueBuilder.buildValue(String.class, LoadType.STANDARD_DATA));
+        Assertions.assertEquals("ALT_VALUE", this.valueBuilder.buildValue(String.class, LoadType.ALTERNATE_DATA));
+        Assertions.assertEquals(Integer.valueOf(-1), this.valueBuilder.buildValue(int.class, LoadType.NULL_DATA));
+        Assertions.assertEquals(BigDecimal.ONE, this.valueBuilder.buildValue(BigDecimal.class, LoadType.STANDARD_DATA));
+        Assertions.assertNull(this.valueBuilder.buildValue(BigDecimal.class, LoadType.NULL_DATA));
+        Assertions.assertEquals(ArrayList.class,
+                this.valueBuilder.buildValue(List.class, LoadType.STANDARD_DATA).getClass());
+    }
+
+    /**
+     * Registered strategy takes precedence and supplies custom data.
+     */
+    @Test
+    void registeredStrategy() {
+        ValueBuilder.register(BigDecimal.class,
+                (clazz, loadType, valueBuilder) -> loadType == LoadType.CUSTOM_DATA ? BigDecimal.TEN : BigDecimal.ZERO);
+        Assertions.assertEquals(BigDecimal.TEN, this.valueBuilder.buildValue(BigDecimal.class, LoadType.CUSTOM_DATA));
+        Assertions.assertEquals(BigDecimal.ZERO,
+                this.valueBuilder.buildValue(BigDecimal.class, LoadType.STANDARD_DATA));
+
+        ValueBuilder.unregister(BigDecimal.class);
+        Assertions.assertEquals(BigDecimal.ONE, this.valueBuilder.buildValue(BigDecimal.class, LoadType.CUSTOM_DATA));
+    }
+
+    /**
+     * Immutable values are shared and time based values follow the clock.
+     */
+    @Test
+    void pooledAndClockValues() {
+        Assertions.assertSame(this.valueBuilder.buildValue(UUID.class, LoadType.STANDARD_DATA),
+                this.valueBuilder.buildValue(UUID.class, LoadType.STANDARD_DATA));
+        Assertions.assertNotSame(this.valueBuilder.buildValue(String[].class, LoadType.STANDARD_DATA),
+                this.valueBuilder.buildValue(String[].class, LoadType.STANDARD_DATA));
+        Assertions.assertEquals(LocalDate.of(2000, 10, 1),
+                this.valueBuilder.buildValue(LocalDate.class, LoadType.STANDARD_DATA));
+
+        final Clock clock = Clock.fixed(Instant.parse("2020-02-01T00:00:00Z"), ZoneOffset.UTC);
+        this.valueBuilder.setClock(clock);
+        Assertions.assertEquals(LocalDate.of(2020, 2, 1),
+                this.valueBuilder.buildValue(LocalDate.class, LoadType.STANDARD_DATA));
+        Assertions.assertEquals(new Date(clock.millis()),
+                ValueStrategies.of(Date.class).build(Date.class, LoadType.STANDARD_DATA, this.valueBuilder));
+    }
+
+    /**
+     * Every java.time value follows the clock and its zone.
+     */
+    @Test
+    void timeValuesFollowClock() {
+        Assertions.assertEquals(Instant.parse("2000-10-01T00:00:00Z"),
+                this.valueBuilder.buildValue(Instant.class, LoadType.STANDARD_DATA));
+        Assertions.assertEquals(ZonedDateTime.of(2000, 10, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+                this.valueBuilder.buildValue(ZonedDateTime.class, LoadType.STANDARD_DATA));
+
+        final ZoneId zone = ZoneId.of("Asia/Tokyo");
+        final Clock clock = Clock.fixed(Instant.parse("2020-02-01T00:00:00Z"), zone);
+        this.valueBuilder.setClock(clock);
+        Assertions.assertEquals(clock.instant(), this.valueBuilder.buildValue(Instant.class, LoadType.STANDARD_DATA));
+        Assertions.assertEquals(LocalDateTime.of(2020, 2, 1, 9, 0),
+                this.valueBuilder.buildValue(LocalDateTime.class, LoadType.STANDARD_DATA));
+        Assertions.assertEquals(LocalTime.of(9, 0),
+                this.valueBuilder.buildValue(LocalTime.class, LoadType.STANDARD_DATA));
+        Assertions.assertEquals(OffsetDateTime.of(2020, 2, 1, 9, 0, 0, 0, ZoneOffset.ofHours(9)),
+                this.valueBuilder.buildValue(OffsetDateTime.class, LoadType.STANDARD_DATA));
+        Assertions.assertEquals(ZonedDateTime.of(2020, 2, 1, 9, 0, 0, 0, zone),
+                this.valueBuilder.buildValue(ZonedDateTime.class, LoadType.STANDARD_DATA));
+    }
+
+}
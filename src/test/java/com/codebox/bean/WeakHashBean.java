@@ -0,0 +1,107 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean;
+
+import java.util.Objects;
+
+/**
+ * The Class WeakHashBean compares all its properties in equals, but hashes only one of them.
+ */
+public class WeakHashBean {
+
+    /** The name. */
+    private String name;
+
+    /** The count. */
+    private int count;
+
+    /** The active. */
+    private boolean active;
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Sets the name.
+     *
+     * @param name
+     *            the new name
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the count.
+     *
+     * @return the count
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Sets the count.
+     *
+     * @param count
+     *            the new count
+     */
+    public void setCount(final int count) {
+        this.count = count;
+    }
+
+    /**
+     * Checks if is active.
+     *
+     * @return true, if is active
+     */
+    public boolean isActive() {
+        return this.active;
+    }
+
+    /**
+     * Sets the active.
+     *
+     * @param active
+     *            the new active
+     */
+    public void setActive(final boolean active) {
+        this.active = active;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof WeakHashBean)) {
+            return false;
+        }
+        final WeakHashBean other = (WeakHashBean) obj;
+        return this.active == other.active && this.count == other.count && Objects.equals(this.name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(this.active);
+    }
+
+}
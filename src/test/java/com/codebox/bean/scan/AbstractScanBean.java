@@ -0,0 +1,44 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean.scan;
+
+/**
+ * The Class AbstractScanBean is not a candidate as it is abstract.
+ */
+public abstract class AbstractScanBean {
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public abstract String getName();
+
+    /**
+     * The Class InnerScanBean is not a candidate as it is an inner class.
+     */
+    public class InnerScanBean {
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return AbstractScanBean.this.getName();
+        }
+    }
+
+}
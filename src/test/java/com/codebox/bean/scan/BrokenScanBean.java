@@ -0,0 +1,44 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean.scan;
+
+/**
+ * The Class BrokenScanBean has a setter that ignores its value.
+ */
+public class BrokenScanBean {
+
+    /** The name. */
+    private String name;
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Sets the name, ignoring the value.
+     *
+     * @param name
+     *            the new name
+     */
+    public void setName(final String name) {
+        // Broken on purpose
+    }
+
+}
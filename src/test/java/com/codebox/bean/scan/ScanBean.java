@@ -0,0 +1,31 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.bean.scan;
+
+import lombok.Data;
+
+/**
+ * The Class ScanBean.
+ */
+@Data
+public class ScanBean {
+
+    /** The name. */
+    private String name;
+
+    /** The count. */
+    private int count;
+
+}
@@ -15,6 +15,7 @@
 package com.codebox.builders;
 
 import com.codebox.bean.SampleBean;
+import com.codebox.enums.ExtensionMode;
 
 import javassist.CannotCompileException;
 import javassist.NotFoundException;
@@ -57,4 +58,22 @@ class ExtensionBuilderTest {
         this.extension = (Class<SampleBean>) new ExtensionBuilder<SampleBean>().generate(this.clazz);
         Assertions.assertNotEquals(this.clazz, this.extension);
     }
+
+    /**
+     * Extension builder hidden.
+     *
+     * @throws NotFoundException
+     *             the not found exception
+     * @throws CannotCompileException
+     *             the cannot compile exception
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    void extensionBuilderHidden() throws NotFoundException, CannotCompileException {
+        this.extension = (Class<SampleBean>) new ExtensionBuilder<SampleBean>().generate(this.clazz,
+                ExtensionMode.HIDDEN);
+        Assertions.assertNotEquals(this.clazz, this.extension);
+        Assertions.assertEquals(this.clazz, this.extension.getSuperclass());
+    }
+
 }
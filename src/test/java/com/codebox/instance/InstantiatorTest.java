@@ -0,0 +1,217 @@
+/*
+ * JavaBean Tester (https://github.com/hazendaz/javabean-tester)
+ *
+ * Copyright 2012-2024 Hazendaz.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of The Apache Software License,
+ * Version 2.0 which accompanies this distribution, and is available at
+ * http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * Contributors:
+ *     CodeBox (Rob Dawson).
+ *     Hazendaz (Jeremy Landis).
+ */
+package com.codebox.instance;
+
+import com.codebox.enums.LoadType;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class InstantiatorTest.
+ */
+class InstantiatorTest {
+
+    /**
+     * Instantiator cached.
+     */
+    @Test
+    void instantiatorCached() {
+        Assertions.assertSame(Instantiator.of(ListHolder.class), Instantiator.of(ListHolder.class));
+    }
+
+    /**
+     * Mutable arguments are not shared between instances.
+     */
+    @Test
+    void mutableArgumentsRebuilt() {
+        final ClassInstance<ListHolder> classInstance = new ClassInstance<>();
+        final ListHolder first = classInstance.newInstance(ListHolder.class);
+        final ListHolder second = classInstance.newInstance(ListHolder.class);
+        Assertions.assertNotNull(first.getValues());
+        Assertions.assertNotSame(first.getValues(), second.getValues());
+        Assertions.assertSame(first.getName(), second.getName());
+    }
+
+    /**
+     * Bean arguments are built for each instance, running their nested tests each time, never while the instantiator is
+     * resolved.
+     */
+    @Test
+    void beanArgumentsNotBuiltOnResolve() {
+        final int before = Nested.CREATED.get();
+        Instantiator.of(NestedHolder.class);
+        Assertions.assertEquals(before, Nested.CREATED.get());
+
+        final ClassInstance<NestedHolder> classInstance = new ClassInstance<>();
+        classInstance.newInstance(NestedHolder.class);
+        final int first = Nested.CREATED.get();
+        Assertions.assertTrue(first > before);
+        classInstance.newInstance(NestedHolder.class);
+        Assertions.assertEquals(first - before, Nested.CREATED.get() - first);
+    }
+
+    /**
+     * Arguments are built through an overriding class instance.
+     */
+    @Test
+    void overriddenBuildValue() {
+        final ClassInstance<ListHolder> classInstance = new ClassInstance<>() {
+            @Override
+            public <R> Object buildValue(final Class<R> returnType, final LoadType loadType) {
+                return returnType == String.class ? "overridden" : super.buildValue(returnType, loadType);
+            }
+        };
+        Assertions.assertEquals("overridden", classInstance.newInstance(ListHolder.class).getName());
+        Assertions.assertNotEquals("overridden",
+                new ClassInstance<ListHolder>().newInstance(ListHolder.class).getName());
+    }
+
+    /**
+     * Deprecated constructors are skipped.
+     */
+    @Test
+    void deprecatedConstructorSkipped() {
+        Assertions.assertNull(Instantiator.of(DeprecatedOnly.class).getConstructor());
+        Assertions.assertNull(new ClassInstance<DeprecatedOnly>().newInstance(DeprecatedOnly.class));
+    }
+
+    /**
+     * The Class ListHolder.
+     */
+    public static class ListHolder {
+
+        /** The name. */
+        private final String name;
+
+        /** The values. */
+        private final List<String> values;
+
+        /**
+         * Instantiates a new list holder.
+         *
+         * @param name
+         *            the name
+         * @param values
+         *            the values
+         */
+        public ListHolder(final String name, final List<String> values) {
+            this.name = name;
+            this.values = values;
+        }
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Gets the values.
+         *
+         * @return the values
+         */
+        public List<String> getValues() {
+            return this.values;
+        }
+    }
+
+    /**
+     * The Class Nested counts its instances.
+     */
+    public static class Nested {
+
+        /** The Constant CREATED. */
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        /** The name. */
+        private String name;
+
+        /**
+         * Instantiates a new nested.
+         */
+        public Nested() {
+            Nested.CREATED.incrementAndGet();
+        }
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Sets the name.
+         *
+         * @param name
+         *            the new name
+         */
+        public void setName(final String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * The Class NestedHolder.
+     */
+    public static class NestedHolder {
+
+        /** The nested. */
+        private final Nested nested;
+
+        /**
+         * Instantiates a new nested holder.
+         *
+         * @param nested
+         *            the nested
+         */
+        public NestedHolder(final Nested nested) {
+            this.nested = nested;
+        }
+
+        /**
+         * Gets the nested.
+         *
+         * @return the nested, null as bean arguments are tested rather than built
+         */
+        public Nested getNested() {
+            return this.nested;
+        }
+    }
+
+    /**
+     * The Class DeprecatedOnly.
+     */
+    public static class DeprecatedOnly {
+
+        /**
+         * Instantiates a new deprecated only.
+         */
+        @Deprecated
+        public DeprecatedOnly() {
+            // Nothing
+        }
+    }
+
+}